@@ -0,0 +1,81 @@
+package com.example.phoebe.integration.config;
+
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.ratelimit.ClientKey;
+import com.example.phoebe.ratelimit.JdbcRateLimitBackend;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link JdbcRateLimitBackend}: two backend instances stand in for two
+ * replicas sharing the rate_limit_bucket table.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class JdbcRateLimitBackendIntegrationTest extends BaseIntegrationTest {
+
+    private static final BucketConfiguration FIVE_PER_MINUTE = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(5).refillIntervally(5, Duration.ofMinutes(1)).build())
+            .build();
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcRateLimitBackend replicaA;
+    private JdbcRateLimitBackend replicaB;
+
+    @BeforeEach
+    void setUpBackends() {
+        new JdbcTemplate(dataSource).update("DELETE FROM rate_limit_bucket");
+        replicaA = new JdbcRateLimitBackend(dataSource, 0, Duration.ofSeconds(1), Duration.ofMinutes(5));
+        replicaB = new JdbcRateLimitBackend(dataSource, 0, Duration.ofSeconds(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void closeBackends() {
+        replicaA.close();
+        replicaB.close();
+    }
+
+    @Test
+    void replicasShouldShareOneLimit() {
+        ClientKey key = ClientKey.of((byte) 1, "10.1.2.3");
+        Bucket onA = replicaA.createBucket(key, FIVE_PER_MINUTE);
+        Bucket onB = replicaB.createBucket(key, FIVE_PER_MINUTE);
+
+        assertTrue(onA.tryConsume(3));
+        assertTrue(onB.tryConsume(2));
+        assertFalse(onA.tryConsume(1));
+        assertFalse(onB.tryConsume(1));
+    }
+
+    @Test
+    void stateShouldSurviveBackendRestart() {
+        ClientKey key = ClientKey.of((byte) 1, "10.1.2.4");
+        assertTrue(replicaA.createBucket(key, FIVE_PER_MINUTE).tryConsume(4));
+        replicaA.close();
+
+        JdbcRateLimitBackend restarted = new JdbcRateLimitBackend(dataSource, 0, Duration.ofSeconds(1),
+                Duration.ofMinutes(5));
+        try {
+            assertEquals(1, restarted.createBucket(key, FIVE_PER_MINUTE).getAvailableTokens());
+        } finally {
+            restarted.close();
+        }
+    }
+}
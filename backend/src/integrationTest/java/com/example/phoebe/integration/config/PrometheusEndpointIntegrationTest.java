@@ -0,0 +1,54 @@
+package com.example.phoebe.integration.config;
+
+import com.example.phoebe.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The Prometheus scrape endpoint: admin only, and carrying the application's own metrics
+ * next to the ones Spring Boot binds.
+ */
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PrometheusEndpointIntegrationTest extends BaseIntegrationTest {
+
+    private static final String ENDPOINT = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldRequireAdminRole() throws Exception {
+        mockMvc.perform(get(ENDPOINT)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get(ENDPOINT).with(user("editor").roles("EDITOR"))).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldExposeHotPathMetrics() throws Exception {
+        mockMvc.perform(get("/api/public/news")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get(ENDPOINT).with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"), "request histogram");
+        assertTrue(scrape.contains("uri=\"/api/public/news\""), "URI pattern tag");
+        assertTrue(scrape.contains("phoebe_service_method_seconds_bucket{"), "service timers");
+        assertTrue(scrape.contains("ratelimit_requests_total{"), "rate-limit decisions");
+        assertTrue(scrape.contains("cache_gets_total{") && scrape.contains("cache=\"news-by-id\""), "cache stats");
+        assertTrue(scrape.contains("cache=\"authentication\"") && scrape.contains("cache_manager=\"authentication\""),
+                "authentication cache stats");
+        assertTrue(scrape.contains("hikaricp_connections_active{"), "connection pool gauges");
+        assertTrue(scrape.contains("application=\"phoebe\""), "common tag");
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.phoebe.integration.performance;
+
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.filter.SqlStatsFilter;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.service.TermPublicationIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Performance regression suite: seeds a synthetic dataset once and checks each listing endpoint
+ * against a budget of SQL statements, rows read and p95 latency.
+ *
+ * Notes:
+ * - Statement and row counts come from the X-SQL-* headers of {@link SqlStatsFilter} and are taken
+ *   on a cold request (caches cleared), so a regression cannot hide behind a cache hit.
+ * - Latency is the p95 of {@value #MEASURED_REQUESTS} requests after {@value #WARMUP_REQUESTS} warm-up
+ *   requests, through the whole filter chain. Budgets scale with {@code -Pperformance.latencyFactor}.
+ * - Excluded from {@code integrationTest}; run with {@code ./gradlew performanceTest}.
+ */
+@Tag("performance")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "app.sql-stats.response-headers=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class EndpointBudgetIntegrationTest extends BaseIntegrationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointBudgetIntegrationTest.class);
+
+    private static final int ARTICLES = 5_000;
+    private static final int TERMS = 40;
+    private static final int TERMS_PER_ARTICLE = 3;
+    private static final int USERS = 50;
+    private static final int WARMUP_REQUESTS = 20;
+    private static final int MEASURED_REQUESTS = 100;
+    private static final String TERM_PREFIX = "perf-term-";
+
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+    private static boolean seeded;
+    private static long firstTermId;
+    private static long secondTermId;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TermPublicationIndexService termPublicationIndex;
+
+    /**
+     * @param maxStatements SQL statements of a cold request
+     * @param maxRows       result rows read by a cold request; catches listings that load whole tables
+     * @param p95           latency budget before {@code performance.latencyFactor}
+     */
+    record Budget(String endpoint, String uriTemplate, boolean admin, int maxStatements, long maxRows, Duration p95) {
+
+        @Override
+        public String toString() {
+            return endpoint;
+        }
+    }
+
+    static Stream<Budget> budgets() {
+        return Stream.of(
+                new Budget("public news list", "/api/public/news?page=0&size=20", false, 4, 120,
+                        Duration.ofMillis(150)),
+                new Budget("public news by term", "/api/public/news/term/{termId}?page=0&size=20", false, 3, 100,
+                        Duration.ofMillis(150)),
+                new Budget("public news by terms", "/api/public/news/terms?termIds={termId},{otherTermId}&page=0&size=20",
+                        false, 3, 100, Duration.ofMillis(150)),
+                new Budget("public homepage", "/api/public/homepage", false, 8, 400, Duration.ofMillis(150)),
+                new Budget("public channel settings", "/api/public/channel-settings", false, 2, 10,
+                        Duration.ofMillis(50)),
+                new Budget("admin news list", "/api/admin/news?page=0&size=20", true, 4, 120,
+                        Duration.ofMillis(150)),
+                new Budget("admin terms list", "/api/admin/terms?page=0&size=20", true, 2, 40, Duration.ofMillis(100)),
+                new Budget("admin users list", "/api/admin/users", true, 2, USERS + 100, Duration.ofMillis(150)),
+                new Budget("admin roles list", "/api/admin/roles", true, 2, 200, Duration.ofMillis(100)));
+    }
+
+    @BeforeEach
+    void seedOnce() {
+        if (seeded) {
+            return;
+        }
+        long authorId = seedUsers();
+        List<Long> termIds = seedTerms();
+        List<Long> newsIds = seedArticles(authorId, termIds);
+        firstTermId = termIds.get(0);
+        secondTermId = termIds.get(1);
+        // Rows were written with JDBC; let caches and in-memory indexes pick them up as after an import
+        eventPublisher.publishEvent(ContentChangeEvent.news("performance seed", newsIds));
+        awaitTermIndex(firstTermId);
+        seeded = true;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void endpointShouldStayWithinBudget(Budget budget) throws Exception {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        MockHttpServletResponse cold = perform(budget);
+        int statements = Integer.parseInt(cold.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        long rows = Long.parseLong(cold.getHeader(SqlStatsFilter.ROWS_HEADER));
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            perform(budget);
+        }
+        long[] latencies = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long started = System.nanoTime();
+            perform(budget);
+            latencies[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(latencies);
+        Duration p95 = Duration.ofNanos(latencies[(int) Math.ceil(MEASURED_REQUESTS * 0.95) - 1]);
+        Duration p95Budget = Duration.ofNanos((long) (budget.p95().toNanos() * latencyFactor()));
+        LOGGER.info("{}: statements={} rows={} p95={}ms", budget.endpoint(), statements, rows, p95.toMillis());
+
+        assertTrue(statements <= budget.maxStatements(), budget.endpoint() + ": " + statements
+                + " SQL statements, budget " + budget.maxStatements());
+        assertTrue(rows <= budget.maxRows(),
+                budget.endpoint() + ": " + rows + " rows read, budget " + budget.maxRows());
+        assertTrue(p95.compareTo(p95Budget) <= 0, budget.endpoint() + ": p95 " + p95.toMillis()
+                + " ms, budget " + p95Budget.toMillis() + " ms");
+    }
+
+    private MockHttpServletResponse perform(Budget budget) throws Exception {
+        int client = CLIENTS.incrementAndGet();
+        MockHttpServletRequestBuilder request = get(budget.uriTemplate(), firstTermId, secondTermId)
+                // A new client address per request keeps the rate limiter out of the measurement
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr("10.1." + (client >> 8 & 255) + "." + (client & 255));
+                    return servletRequest;
+                });
+        if (budget.admin()) {
+            request = request.with(user("performance_admin").roles("ADMIN"));
+        }
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        assertEquals(200, response.getStatus(), budget.endpoint() + " returned " + response.getStatus());
+        return response;
+    }
+
+    private long seedUsers() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[] {"perf_user_" + i, "{noop}password", "perf_user_" + i + "@test.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, email, active) VALUES (?, ?, ?, TRUE)",
+                users);
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) "
+                + "SELECT u.id, r.id FROM users u JOIN roles r ON r.name = 'EDITOR' WHERE u.username LIKE 'perf\\_user\\_%'");
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'perf_user_0'", Long.class);
+    }
+
+    private List<Long> seedTerms() {
+        List<Object[]> terms = new ArrayList<>();
+        for (int i = 0; i < TERMS; i++) {
+            terms.add(new Object[] {TERM_PREFIX + i, "category"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO terms (name, vocabulary) VALUES (?, ?)", terms);
+        return jdbcTemplate.queryForList("SELECT id FROM terms WHERE name LIKE ? ORDER BY id", Long.class,
+                TERM_PREFIX + "%");
+    }
+
+    private List<Long> seedArticles(long authorId, List<Long> termIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            Timestamp date = Timestamp.valueOf(now.minusMinutes(i));
+            articles.add(new Object[] {"Performance article " + i, "<p>Body of article " + i + "</p>",
+                    "Teaser " + i, date, i % 5 != 0, date, date, authorId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO content (title, body, teaser, publication_date, published, created_at, "
+                + "updated_at, version, author_id) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)", articles);
+        List<Long> newsIds = jdbcTemplate.queryForList(
+                "SELECT id FROM content WHERE title LIKE 'Performance article %' ORDER BY id", Long.class);
+
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < newsIds.size(); i++) {
+            for (int t = 0; t < TERMS_PER_ARTICLE; t++) {
+                links.add(new Object[] {newsIds.get(i), termIds.get((i + t) % termIds.size())});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO content_terms (content_id, term_id) VALUES (?, ?)", links);
+        return newsIds;
+    }
+
+    private void awaitTermIndex(long termId) {
+        long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM content n JOIN content_terms ct "
+                + "ON ct.content_id = n.id WHERE n.published = TRUE AND ct.term_id = ?", Long.class, termId);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            boolean current = termPublicationIndex.findPublishedIdPage(List.of(termId), PageRequest.of(0, 1))
+                    .map(page -> page.getTotalElements() == expected)
+                    .orElse(false);
+            if (current) {
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalStateException("Term publication index did not pick up the seeded articles");
+    }
+
+    private static double latencyFactor() {
+        return Double.parseDouble(System.getProperty("performance.latencyFactor", "1"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.phoebe.integration.service;
+
+import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.dto.response.BulkActionJobDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.BulkActionJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for chunked bulk jobs, covering the set-based term statements
+ * against a real database. A chunk size of 2 forces several chunks.
+ */
+@SpringBootTest(properties = "app.bulk-jobs.chunk-size=2")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class BulkActionJobServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final int ARTICLES = 5;
+
+    @Autowired
+    private BulkActionJobService bulkActionJobService;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Term tag;
+
+    @BeforeEach
+    void setUp() {
+        newsRepository.deleteAll();
+        termRepository.deleteAll();
+
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        User author = userRepository.save(
+                new User("bulk_job_user_" + timestamp, "password", "bulk_job_" + timestamp + "@test.com", true));
+        tag = termRepository.save(new Term("Bulk Tag", "tag"));
+
+        for (int i = 0; i < ARTICLES; i++) {
+            News news = new News();
+            news.setTitle("Bulk job article " + i);
+            news.setBody("Body " + i);
+            news.setPublicationDate(LocalDateTime.now());
+            news.setAuthor(author);
+            newsRepository.save(news);
+        }
+    }
+
+    @Test
+    void assignAndRemoveTermShouldCoverEveryMatchingArticle() throws InterruptedException {
+        BulkActionJobDto assigned = runToCompletion(request(BulkActionRequestDto.ActionType.ASSIGN_TERM,
+                BulkActionRequestDto.FilterType.ALL));
+
+        assertEquals(BulkActionJobDto.Status.COMPLETED, assigned.status());
+        assertEquals(ARTICLES, assigned.processedCount());
+        assertEquals(3, assigned.chunkCount());
+        assertEquals(ARTICLES, newsRepository.countByTermId(tag.getId()));
+
+        // Assigning again must not create duplicate links
+        runToCompletion(request(BulkActionRequestDto.ActionType.ASSIGN_TERM, BulkActionRequestDto.FilterType.ALL));
+        assertEquals(ARTICLES, newsRepository.findIdsByTermId(tag.getId()).size());
+
+        BulkActionRequestDto remove = request(BulkActionRequestDto.ActionType.REMOVE_TERM,
+                BulkActionRequestDto.FilterType.BY_TERM);
+        remove.setTermId(tag.getId());
+        BulkActionJobDto removed = runToCompletion(remove);
+
+        assertEquals(BulkActionJobDto.Status.COMPLETED, removed.status());
+        assertEquals(0, newsRepository.countByTermId(tag.getId()));
+    }
+
+    @Test
+    void publishShouldUpdateAllArticles() throws InterruptedException {
+        BulkActionJobDto job = runToCompletion(request(BulkActionRequestDto.ActionType.PUBLISH,
+                BulkActionRequestDto.FilterType.ALL));
+
+        assertEquals(BulkActionJobDto.Status.COMPLETED, job.status());
+        assertTrue(newsRepository.findAll().stream().allMatch(News::isPublished));
+    }
+
+    private BulkActionJobDto runToCompletion(BulkActionRequestDto request) throws InterruptedException {
+        BulkActionJobDto job = bulkActionJobService.submit(request, "admin");
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!job.status().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = bulkActionJobService.getJob(job.id());
+        }
+        return job;
+    }
+
+    private BulkActionRequestDto request(BulkActionRequestDto.ActionType action,
+                                         BulkActionRequestDto.FilterType filterType) {
+        BulkActionRequestDto request = new BulkActionRequestDto();
+        request.setAction(action);
+        request.setFilterType(filterType);
+        request.setTargetTermId(tag.getId());
+        request.setConfirmed(true);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.phoebe.integration.service;
+
+import com.example.phoebe.dto.response.NewsImportResultDto;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.NewsImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the NDJSON import. A batch size of 2 forces several JDBC batches.
+ */
+@SpringBootTest(properties = "app.news-import.batch-size=2")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NewsImportServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private NewsImportService newsImportService;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Authentication authentication;
+    private Term tag;
+
+    @BeforeEach
+    void setUp() {
+        newsRepository.deleteAll();
+        termRepository.deleteAll();
+
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        User author = userRepository.save(
+                new User("import_user_" + timestamp, "password", "import_" + timestamp + "@test.com", true));
+        authentication = new UsernamePasswordAuthenticationToken(author.getUsername(), null, List.of());
+        tag = termRepository.save(new Term("Import Tag", "tag"));
+    }
+
+    @Test
+    void importShouldWriteValidLinesAndReportInvalidOnes() throws IOException {
+        String ndjson = String.join("\n",
+                "{\"title\":\"First\",\"content\":\"Body 1\",\"published\":true,\"termIds\":[" + tag.getId() + "]}",
+                "{\"title\":\"Second\",\"content\":\"Body 2\"}",
+                "",
+                "{not json",
+                "{\"title\":\"\",\"content\":\"Body 4\"}",
+                "{\"title\":\"Unknown term\",\"content\":\"Body 5\",\"termIds\":[999999]}",
+                "{\"title\":\"Third\",\"content\":\"Body 6\",\"termIds\":[" + tag.getId() + "]}");
+
+        NewsImportResultDto result = newsImportService.importNdjson(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), authentication);
+
+        assertEquals(6, result.received());
+        assertEquals(3, result.imported());
+        assertEquals(3, result.failed());
+        assertFalse(result.errorsTruncated());
+        assertEquals(List.of(4L, 5L, 6L), result.errors().stream().map(NewsImportResultDto.RecordError::line).toList());
+        assertTrue(result.errors().get(2).message().contains("999999"));
+
+        assertEquals(3, newsRepository.count());
+        assertEquals(2, newsRepository.countByTermId(tag.getId()));
+        assertEquals(1, newsRepository.findAll().stream().filter(news -> news.isPublished()).count());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.phoebe.integration.service;
+
+import com.example.phoebe.dto.HomepageModeDto;
+import com.example.phoebe.dto.response.PublicHomepageBlockDto;
+import com.example.phoebe.dto.response.PublicHomepageResponseDto;
+import com.example.phoebe.dto.response.PublicNewsDto;
+import com.example.phoebe.entity.HomePageBlock;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.model.HomePageBlockType;
+import com.example.phoebe.model.HomepageMode;
+import com.example.phoebe.repository.HomePageBlockRepository;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.HomepageSettingsService;
+import com.example.phoebe.service.PublicHomepageService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link com.example.phoebe.service.PublicHomepageService} in CUSTOM mode,
+ * verifying that NEWS_BLOCK contents are loaded with a constant number of statements.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PublicHomepageServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PublicHomepageService publicHomepageService;
+
+    @Autowired
+    private HomepageSettingsService homepageSettingsService;
+
+    @Autowired
+    private HomePageBlockRepository blockRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        blockRepository.deleteAll();
+        newsRepository.deleteAll();
+        termRepository.deleteAll();
+
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        author = userRepository.save(new User("homepage_user_" + timestamp, "password_for_tests",
+                "homepage_" + timestamp + "@test.com", true));
+
+        homepageSettingsService.updateMode(new HomepageModeDto(HomepageMode.CUSTOM));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        homepageSettingsService.updateMode(new HomepageModeDto(HomepageMode.SIMPLE));
+    }
+
+    @Test
+    void newsBlocksShouldBeLoadedWithConstantNumberOfStatements() {
+        // Given
+        createNewsBlock("Block 1", 3, 5);
+        long statementsForOneBlock = countStatementsForHomepage();
+
+        // When
+        for (int i = 2; i <= 6; i++) {
+            createNewsBlock("Block " + i, 3, 5);
+        }
+        long statementsForSixBlocks = countStatementsForHomepage();
+
+        // Then
+        assertEquals(statementsForOneBlock, statementsForSixBlocks);
+    }
+
+    @Test
+    void eachNewsBlockShouldReceiveItsOwnLatestPublishedNews() {
+        // Given
+        HomePageBlock small = createNewsBlock("Small", 2, 4);
+        HomePageBlock large = createNewsBlock("Large", 5, 3);
+
+        // When
+        PublicHomepageResponseDto response = publicHomepageService.getHomepageContent();
+
+        // Then
+        assertEquals(2, response.getBlocks().size());
+        List<PublicNewsDto> smallNews = findBlock(response, small.getId()).getNews();
+        List<PublicNewsDto> largeNews = findBlock(response, large.getId()).getNews();
+        assertEquals(2, smallNews.size());
+        assertEquals(3, largeNews.size());
+        assertTrue(smallNews.get(0).getPublishedAt().isAfter(smallNews.get(1).getPublishedAt()));
+    }
+
+    private long countStatementsForHomepage() {
+        statistics.clear();
+        publicHomepageService.getHomepageContent();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private HomePageBlock createNewsBlock(String termName, int newsCount, int publishedNews) {
+        Term term = termRepository.save(new Term(termName, "category"));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < publishedNews; i++) {
+            News news = new News();
+            news.setTitle(termName + " news " + i);
+            news.setBody("Body");
+            news.setTeaser("Teaser");
+            news.setPublished(true);
+            news.setPublicationDate(now.minusHours(i));
+            news.setAuthor(author);
+            news.setTerms(Set.of(term));
+            newsRepository.save(news);
+        }
+
+        HomePageBlock block = new HomePageBlock();
+        block.setBlockType(HomePageBlockType.NEWS_BLOCK);
+        block.setWeight((int) blockRepository.count());
+        block.setNewsCount(newsCount);
+        block.setTaxonomyTerms(Set.of(term));
+        return blockRepository.save(block);
+    }
+
+    private PublicHomepageBlockDto findBlock(PublicHomepageResponseDto response, Integer blockId) {
+        return response.getBlocks().stream()
+                .filter(block -> block.getId().equals(blockId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.phoebe.integration.service.impl;
+
+import com.example.phoebe.dto.response.NewsSummaryDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.NewsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Regression tests for listing pagination: a page request must read only that page's
+ * news rows, however many articles match, and never load the article entities.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class NewsPaginationIntegrationTest extends BaseIntegrationTest {
+
+    private static final int ARTICLES = 12;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Term category;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        newsRepository.deleteAll();
+        termRepository.deleteAll();
+
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        User author = userRepository.save(
+                new User("pagination_user_" + timestamp, "password", "pagination_" + timestamp + "@test.com", true));
+        category = termRepository.save(new Term("Pagination Category", "category"));
+        Term tag = termRepository.save(new Term("Pagination Tag", "tag"));
+
+        for (int i = 0; i < ARTICLES; i++) {
+            News news = new News();
+            news.setTitle("Article " + i);
+            news.setBody("Body " + i);
+            news.setPublished(true);
+            news.setPublicationDate(BASE.plusHours(i));
+            news.setAuthor(author);
+            // Two terms per article: a joined fetch returns two rows per article
+            news.setTerms(Set.of(category, tag));
+            newsRepository.save(news);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void publishedPageShouldLoadOnlyPageRows() {
+        Page<NewsSummaryDto> page = newsService.findAllPublished(
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "publicationDate")));
+
+        assertEquals(ARTICLES, page.getTotalElements());
+        assertEquals(List.of("Article 6", "Article 5", "Article 4", "Article 3", "Article 2"),
+                page.getContent().stream().map(NewsSummaryDto::title).toList());
+        assertPageOnlyLeftDatabase();
+    }
+
+    @Test
+    void termPageShouldLoadOnlyPageRowsWithoutDuplicates() {
+        Page<NewsSummaryDto> page = newsService.findByTermId(category.getId(),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "publicationDate")));
+
+        assertEquals(ARTICLES, page.getTotalElements());
+        assertEquals(List.of("Article 0", "Article 1", "Article 2", "Article 3", "Article 4"),
+                page.getContent().stream().map(NewsSummaryDto::title).toList());
+        assertEquals(2, page.getContent().get(0).termNames().size());
+        assertPageOnlyLeftDatabase();
+    }
+
+    /**
+     * Listings are served from projections: no article entity (or body) is loaded, and the
+     * column query returns exactly one page of rows.
+     */
+    private void assertPageOnlyLeftDatabase() {
+        assertEquals(0, statistics.getEntityStatistics(News.class.getName()).getLoadCount());
+        String summaryQuery = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("NewsSummaryRow"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(5, statistics.getQueryStatistics(summaryQuery).getExecutionRowCount());
+    }
+}
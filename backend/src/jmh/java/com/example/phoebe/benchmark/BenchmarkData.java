@@ -0,0 +1,52 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Representative inputs shared by the benchmarks: an article of typical length using only tags
+ * that {@code SafeHtmlValidator} allows, a variant with a YouTube link, and three terms.
+ */
+final class BenchmarkData {
+
+    static final String BODY = buildBody();
+    static final String BODY_WITH_VIDEO = BODY + "<p>Watch: https://www.youtube.com/watch?v=dQw4w9WgXcQ</p>";
+
+    private BenchmarkData() {
+    }
+
+    static News article(long id) {
+        User author = new User("editor", "{noop}password", "editor@example.com", true);
+        author.setId(7L);
+        Set<Term> terms = new LinkedHashSet<>();
+        terms.add(new Term(1L, "Politics", "category"));
+        terms.add(new Term(2L, "Economy", "category"));
+        terms.add(new Term(3L, "Elections", "tag"));
+
+        News news = new News();
+        news.setId(id);
+        news.setTitle("Benchmark article " + id);
+        news.setTeaser("<p>Short teaser of article " + id + "</p>");
+        news.setBody(BODY);
+        news.setPublicationDate(LocalDateTime.of(2024, 5, 1, 12, 0).plusMinutes(id));
+        news.setPublished(true);
+        news.setAuthor(author);
+        news.setTerms(terms);
+        return news;
+    }
+
+    private static String buildBody() {
+        StringBuilder body = new StringBuilder("<p><b>Lead paragraph</b></p>");
+        for (int i = 0; i < 12; i++) {
+            body.append("<p>Paragraph ").append(i)
+                    .append(" with <strong>bold</strong>, <em>emphasis</em> and <i>italics</i>.<br>")
+                    .append("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor.</p>");
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.mapper.NewsMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NewsMapper#toDto(News)}, called for every article of admin pages and single-article responses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NewsMapperBenchmark {
+
+    private NewsMapper mapper;
+    private News news;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(NewsMapper.class);
+        news = BenchmarkData.article(1L);
+    }
+
+    @Benchmark
+    public NewsDto toDto() {
+        return mapper.toDto(news);
+    }
+}
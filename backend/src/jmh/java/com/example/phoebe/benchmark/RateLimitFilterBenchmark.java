@@ -0,0 +1,103 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.config.RateLimitConfig;
+import com.example.phoebe.filter.RateLimitFilter;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimitFilter} in front of every request: client key, bucket lookup and token consumption.
+ *
+ * Notes:
+ * - {@code accepted} spreads requests over 1,024 clients whose buckets never run out, so every call
+ *   takes the pass-through path. {@code rejected} uses the production limits for one client, whose
+ *   tokens are gone after the first 100 calls.
+ * - Requests are reused (the filter removes its marker attribute after each call); the response
+ *   discards headers and body so that it does not grow during the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS = 1024;
+    private static final long UNLIMITED = 1_000_000_000L;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter unlimitedFilter;
+    private RateLimitFilter productionFilter;
+    private MockHttpServletRequest[] clientRequests;
+    private MockHttpServletRequest singleClientRequest;
+    private DiscardingResponse response;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RateLimitConfig unlimited = new RateLimitConfig((key, configuration) -> Bucket.builder()
+                .addLimit(Bandwidth.builder().capacity(UNLIMITED)
+                        .refillGreedy(UNLIMITED, Duration.ofSeconds(1)).build())
+                .build(), 100_000, Duration.ofMinutes(10));
+        unlimitedFilter = new RateLimitFilter(unlimited);
+        productionFilter = new RateLimitFilter(new RateLimitConfig());
+
+        clientRequests = new MockHttpServletRequest[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientRequests[i] = request("10.0." + (i >> 8) + "." + (i & 255));
+        }
+        singleClientRequest = request("10.1.0.1");
+        response = new DiscardingResponse();
+    }
+
+    @Benchmark
+    public void accepted() throws Exception {
+        MockHttpServletRequest request = clientRequests[next++ & (CLIENTS - 1)];
+        unlimitedFilter.doFilter(request, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void rejected() throws Exception {
+        productionFilter.doFilter(singleClientRequest, response, NO_OP_CHAIN);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private final PrintWriter writer = new PrintWriter(Writer.nullWriter());
+
+        @Override
+        public void addHeader(String name, String value) {
+            // discarded
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.security.RequireAnyRole;
+import com.example.phoebe.security.RoleSecurityAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RoleSecurityAspect} around a {@code @RequireAnyRole} method, through a Spring AOP proxy as in
+ * the application, for a user holding the last of the required roles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoleSecurityAspectBenchmark {
+
+    private SecuredService securedService;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SecuredService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RoleSecurityAspect());
+        securedService = factory.getProxy();
+        // The security context is thread-local; Scope.Thread runs this setup on the benchmark thread
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("editor", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_EDITOR")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public long requireAnyRole() {
+        return securedService.find(42L);
+    }
+
+    public static class SecuredService {
+
+        @RequireAnyRole({"ADMIN", "EDITOR"})
+        public long find(long id) {
+            return id;
+        }
+    }
+}
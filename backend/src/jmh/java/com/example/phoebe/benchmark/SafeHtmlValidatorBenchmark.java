@@ -0,0 +1,49 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.validation.SafeHtmlValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML validation of article bodies on every create, update and import. {@code isValid} gets a body
+ * with allowed tags only, so every tag is checked; the YouTube conversion gets a body with a link.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SafeHtmlValidatorBenchmark {
+
+    private SafeHtmlValidator validator;
+    private String body;
+    private String bodyWithVideo;
+
+    @Setup
+    public void setUp() {
+        validator = new SafeHtmlValidator();
+        body = BenchmarkData.BODY;
+        bodyWithVideo = BenchmarkData.BODY_WITH_VIDEO;
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(body, null);
+    }
+
+    @Benchmark
+    public String convertYouTubeLinks() {
+        return SafeHtmlValidator.convertYouTubeLinks(bodyWithVideo);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.phoebe.accesslog;
+
+/**
+ * One recorded HTTP request: what was asked, by which kind of caller, and how it went.
+ * No client addresses, credentials or bodies are recorded.
+ *
+ * @param timestampMillis start of the request, epoch milliseconds
+ * @param method          HTTP method
+ * @param path            request URI without the query string
+ * @param query           raw query string, or {@code null}
+ * @param role            kind of caller, taken from the authenticated principal
+ * @param status          response status
+ * @param durationMicros  time spent in the filter chain behind the access log filter
+ */
+public record AccessLogEntry(
+        long timestampMillis,
+        String method,
+        String path,
+        String query,
+        Role role,
+        int status,
+        long durationMicros
+) {
+
+    /**
+     * Caller categories; the ordinal is the stored code, so only append new values.
+     */
+    public enum Role {
+        ANONYMOUS,
+        EDITOR,
+        ADMIN,
+        AUTHENTICATED
+    }
+}
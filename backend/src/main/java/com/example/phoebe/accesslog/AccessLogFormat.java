@@ -0,0 +1,117 @@
+package com.example.phoebe.accesslog;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Binary layout of access log files, shared by {@link AccessLogWriter} and {@link AccessLogReader}.
+ *
+ * <pre>
+ * header: int magic "PHAL", byte version, long start (epoch ms)
+ * entry:  varlong ms since previous entry, byte method (index, or 0xFF followed by UTF name),
+ *         UTF path, UTF query ("" when absent), byte role, short status, varlong duration (microseconds)
+ * </pre>
+ *
+ * A typical public GET takes 25-40 bytes, so a day of traffic fits comfortably on local disk.
+ */
+final class AccessLogFormat {
+
+    static final int MAGIC = 0x5048414C;
+    static final byte VERSION = 1;
+    static final String FILE_SUFFIX = ".phal";
+    /** Longer paths and queries are cut; DataOutput.writeUTF cannot store more than 64 KB anyway. */
+    static final int MAX_TEXT_LENGTH = 2048;
+
+    private static final List<String> METHODS = List.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
+    private static final int OTHER_METHOD = 0xFF;
+
+    private AccessLogFormat() {
+    }
+
+    static void writeHeader(DataOutputStream out, long startMillis) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(startMillis);
+    }
+
+    /**
+     * @return start of the file, epoch milliseconds
+     */
+    static long readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an access log file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported access log version " + version);
+        }
+        return in.readLong();
+    }
+
+    static void writeEntry(DataOutputStream out, AccessLogEntry entry, long previousMillis) throws IOException {
+        writeVarLong(out, Math.max(0, entry.timestampMillis() - previousMillis));
+        int method = METHODS.indexOf(entry.method());
+        out.writeByte(method >= 0 ? method : OTHER_METHOD);
+        if (method < 0) {
+            out.writeUTF(truncate(entry.method()));
+        }
+        out.writeUTF(truncate(entry.path()));
+        out.writeUTF(entry.query() == null ? "" : truncate(entry.query()));
+        out.writeByte(entry.role().ordinal());
+        out.writeShort(entry.status());
+        writeVarLong(out, Math.max(0, entry.durationMicros()));
+    }
+
+    /**
+     * @return the next entry, or {@code null} at the end of the file
+     */
+    static AccessLogEntry readEntry(DataInputStream in, long previousMillis) throws IOException {
+        try {
+            return readEntryOrFail(in, previousMillis);
+        } catch (EOFException e) {
+            // End of file, or an entry cut off when the process stopped
+            return null;
+        }
+    }
+
+    private static AccessLogEntry readEntryOrFail(DataInputStream in, long previousMillis) throws IOException {
+        long delta = readVarLong(in);
+        int method = in.readUnsignedByte();
+        String methodName = method == OTHER_METHOD ? in.readUTF() : METHODS.get(method);
+        String path = in.readUTF();
+        String query = in.readUTF();
+        AccessLogEntry.Role role = AccessLogEntry.Role.values()[in.readUnsignedByte()];
+        int status = in.readUnsignedShort();
+        long duration = readVarLong(in);
+        return new AccessLogEntry(previousMillis + delta, methodName, path, query.isEmpty() ? null : query,
+                role, status, duration);
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed access log entry");
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.phoebe.accesslog;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Reads access log files written by {@link AccessLogWriter}, in order, one entry at a time.
+ * A file cut off mid-entry (e.g. the process was killed) ends at its last complete entry.
+ */
+public class AccessLogReader implements Iterator<AccessLogEntry>, AutoCloseable {
+
+    private final Iterator<Path> files;
+    private DataInputStream in;
+    private long previousMillis;
+    private AccessLogEntry next;
+
+    /**
+     * @param source one access log file, or a directory whose {@code *.phal} files are read in name order
+     */
+    public AccessLogReader(Path source) throws IOException {
+        this.files = listFiles(source).iterator();
+        this.next = advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public AccessLogEntry next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        AccessLogEntry current = next;
+        try {
+            next = advance();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read access log", e);
+        }
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+
+    private AccessLogEntry advance() throws IOException {
+        while (true) {
+            if (in == null) {
+                if (!files.hasNext()) {
+                    return null;
+                }
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(files.next()), 64 * 1024));
+                previousMillis = AccessLogFormat.readHeader(in);
+            }
+            AccessLogEntry entry = AccessLogFormat.readEntry(in, previousMillis);
+            if (entry != null) {
+                previousMillis = entry.timestampMillis();
+                return entry;
+            }
+            close();
+        }
+    }
+
+    private static List<Path> listFiles(Path source) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return List.of(source);
+        }
+        try (Stream<Path> paths = Files.list(source)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().endsWith(AccessLogFormat.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.phoebe.accesslog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends access log entries to binary files (see {@link AccessLogFormat}) from a single background thread.
+ *
+ * Request threads only offer to a bounded ring buffer and never wait for disk: when the buffer is full the
+ * entry is dropped and counted ({@link #dropped()}). Files roll over at the configured size and are named
+ * after their start time, so sorting by name gives chronological order.
+ */
+public class AccessLogWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final int DRAIN_BATCH = 1024;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final BlockingQueue<AccessLogEntry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    private CountingOutputStream file;
+    private DataOutputStream out;
+    private long previousMillis;
+    private int fileSequence;
+
+    public AccessLogWriter(Path directory, int bufferSize, long maxFileBytes) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.worker = new Thread(this::drainLoop, "access-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues an entry without blocking; drops it when the writer cannot keep up.
+     */
+    public void record(AccessLogEntry entry) {
+        if (closed || !buffer.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    public long written() {
+        return written.get();
+    }
+
+    /**
+     * Writes what is still buffered and closes the current file.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<AccessLogEntry> batch = new ArrayList<>(DRAIN_BATCH);
+        try {
+            while (!closed || !buffer.isEmpty()) {
+                AccessLogEntry first = buffer.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, DRAIN_BATCH - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(List<AccessLogEntry> batch) {
+        try {
+            for (AccessLogEntry entry : batch) {
+                if (out == null || file.count() >= maxFileBytes) {
+                    openFile(entry.timestampMillis());
+                }
+                AccessLogFormat.writeEntry(out, entry, previousMillis);
+                previousMillis = entry.timestampMillis();
+            }
+            out.flush();
+            written.addAndGet(batch.size());
+        } catch (IOException e) {
+            dropped.addAndGet(batch.size());
+            LOGGER.warn("Could not write access log to {}: {}", directory, e.getMessage());
+            closeFile();
+        }
+    }
+
+    private void openFile(long startMillis) throws IOException {
+        closeFile();
+        Files.createDirectories(directory);
+        // The sequence keeps names unique and ordered when files roll over within the same millisecond
+        Path path = directory.resolve(String.format("access-%s-%04d%s", LocalDateTime.now().format(FILE_NAME),
+                ++fileSequence % 10_000, AccessLogFormat.FILE_SUFFIX));
+        file = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024));
+        out = new DataOutputStream(file);
+        AccessLogFormat.writeHeader(out, startMillis);
+        previousMillis = startMillis;
+        LOGGER.info("Writing access log to {}", path);
+    }
+
+    private void closeFile() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close access log: {}", e.getMessage());
+        }
+        out = null;
+        file = null;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.accesslog.AccessLogWriter;
+import com.example.phoebe.filter.AccessLogFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Records requests into a binary access log when {@code app.access-log.enabled} is true.
+ * Recorded files can be replayed against an instance with {@code ./gradlew replayAccessLog}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true")
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class AccessLogConfig {
+
+    /** Directly behind Spring Security's filter chain, ahead of RateLimitFilter. */
+    private static final int FILTER_ORDER =
+            org.springframework.boot.autoconfigure.security.SecurityProperties.DEFAULT_FILTER_ORDER + 1;
+
+    @Bean
+    public AccessLogWriter accessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        AccessLogWriter writer = new AccessLogWriter(Path.of(properties.directoryOrDefault()),
+                properties.bufferSizeOrDefault(), properties.maxFileSizeMbOrDefault() * 1024L * 1024L);
+        FunctionCounter.builder("access.log.written", writer, AccessLogWriter::written)
+                .description("Requests written to the access log")
+                .register(meterRegistry);
+        FunctionCounter.builder("access.log.dropped", writer, AccessLogWriter::dropped)
+                .description("Requests not logged because the writer fell behind")
+                .register(meterRegistry);
+        return writer;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogWriter accessLogWriter) {
+        FilterRegistrationBean<AccessLogFilter> registration =
+                new FilterRegistrationBean<>(new AccessLogFilter(accessLogWriter));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
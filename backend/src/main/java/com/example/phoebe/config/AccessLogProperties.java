@@ -0,0 +1,41 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Binary access log for traffic replay (see {@link AccessLogConfig}):
+ *
+ * <pre>
+ * app.access-log.enabled: false
+ * app.access-log.directory: ./access-log
+ * app.access-log.buffer-size: 65536
+ * app.access-log.max-file-size-mb: 256
+ * </pre>
+ *
+ * {@code buffer-size} is the number of entries held in memory for the writer thread; entries beyond
+ * it are dropped and counted in the {@code access.log.dropped} metric.
+ */
+@ConfigurationProperties(prefix = "app.access-log")
+public record AccessLogProperties(
+        boolean enabled,
+        String directory,
+        Integer bufferSize,
+        Integer maxFileSizeMb
+) {
+
+    public static final String DEFAULT_DIRECTORY = "./access-log";
+    public static final int DEFAULT_BUFFER_SIZE = 65_536;
+    public static final int DEFAULT_MAX_FILE_SIZE_MB = 256;
+
+    public String directoryOrDefault() {
+        return directory == null || directory.isBlank() ? DEFAULT_DIRECTORY : directory;
+    }
+
+    public int bufferSizeOrDefault() {
+        return bufferSize == null || bufferSize <= 0 ? DEFAULT_BUFFER_SIZE : bufferSize;
+    }
+
+    public int maxFileSizeMbOrDefault() {
+        return maxFileSizeMb == null || maxFileSizeMb <= 0 ? DEFAULT_MAX_FILE_SIZE_MB : maxFileSizeMb;
+    }
+}
@@ -1,65 +1,114 @@
 package com.example.phoebe.config;
 
+import com.example.phoebe.monitoring.jfr.CacheLoadEvent;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Cache configuration using Caffeine for high-performance in-memory caching.
- * Optimizes frequently accessed data like terms, published news, and search results.
+ * Each cache gets its own size and TTL from {@link CacheSpecProperties}.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
     /**
-     * Configure Caffeine cache manager with optimized settings for news platform.
-     * 
+     * Configure Caffeine cache manager with per-cache settings.
+     *
      * Cache Strategy:
-     * - Terms: Long TTL (1 hour) - rarely change, frequently accessed
-     * - Published News: Medium TTL (15 min) - balance freshness vs performance  
-     * - Search Results: Short TTL (5 min) - dynamic content, frequent updates
-     * 
+     * - Caches named in {@code app.cache.specs} are created eagerly with their own spec
+     * - A spec with {@code refreshAfterWrite} reloads hot entries in the background through the
+     *   cache's {@link CacheRefreshLoader}, so popular keys never expire under load
+     * - Any other cache is created on first use with {@code app.cache.default-spec}
+     * - Cached methods use {@code @Cacheable(sync = true)}: concurrent misses on one key wait for
+     *   a single load instead of all hitting the database
+     *
      * @return configured cache manager
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-        // Default cache configuration for most use cases
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)                    // Max 1000 entries per cache
-                .expireAfterWrite(Duration.ofMinutes(15))  // Default 15 min TTL
-                .recordStats());                      // Enable metrics for monitoring
-        
+    public CacheManager cacheManager(CacheSpecProperties properties, ObjectProvider<CacheRefreshLoader> refreshLoaders) {
+        return createCacheManager(properties, refreshLoaders.orderedStream()
+                .collect(Collectors.toMap(CacheRefreshLoader::cacheName, Function.identity())));
+    }
+
+    static CaffeineCacheManager createCacheManager(CacheSpecProperties properties,
+                                                   Map<String, CacheRefreshLoader> refreshLoaders) {
+        CaffeineCacheManager cacheManager = new RecordingCaffeineCacheManager();
+        cacheManager.setCacheSpecification(properties.defaultSpecOrBuiltIn());
+        properties.specsOrEmpty().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, buildCache(name, spec, refreshLoaders.get(name))));
         return cacheManager;
     }
 
-    /**
-     * Specialized cache for taxonomy terms (categories/tags).
-     * Longer TTL since terms change infrequently.
-     */
-    @Bean
-    public Caffeine<Object, Object> termsCaffeineConfig() {
-        return Caffeine.newBuilder()
-                .maximumSize(500)                     // Smaller cache for terms
-                .expireAfterWrite(Duration.ofHours(1))     // 1 hour TTL
-                .recordStats();
+    private static Cache<Object, Object> buildCache(String name, String spec, CacheRefreshLoader refreshLoader) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        if (refreshLoader != null) {
+            return builder.build(key -> {
+                CacheLoadEvent event = new CacheLoadEvent();
+                event.begin();
+                Object value = null;
+                try {
+                    value = refreshLoader.load(key);
+                    return value;
+                } finally {
+                    commit(event, name, "refresh", value != null);
+                }
+            });
+        }
+        try {
+            return builder.build();
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Cache '" + name + "' uses refreshAfterWrite but has no CacheRefreshLoader", e);
+        }
+    }
+
+    private static void commit(CacheLoadEvent event, String cache, String kind, boolean found) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.kind = kind;
+            event.found = found;
+            event.commit();
+        }
     }
 
     /**
-     * Cache for search results with shorter TTL for data freshness.
+     * Records each value loaded by a {@code @Cacheable(sync = true)} miss as a {@link CacheLoadEvent}.
      */
-    @Bean  
-    public Caffeine<Object, Object> searchCaffeineConfig() {
-        return Caffeine.newBuilder()
-                .maximumSize(2000)                    // Larger cache for search variety
-                .expireAfterWrite(Duration.ofMinutes(5))   // 5 min TTL for freshness
-                .recordStats();
+    private static final class RecordingCaffeineCacheManager extends CaffeineCacheManager {
+
+        @Override
+        protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+            return new CaffeineCache(name, cache, isAllowNullValues()) {
+                @Override
+                public <T> T get(Object key, Callable<T> valueLoader) {
+                    return super.get(key, () -> {
+                        CacheLoadEvent event = new CacheLoadEvent();
+                        event.begin();
+                        T value = null;
+                        try {
+                            value = valueLoader.call();
+                            return value;
+                        } finally {
+                            commit(event, name, "miss", value != null);
+                        }
+                    });
+                }
+            };
+        }
     }
-}
\ No newline at end of file
+}
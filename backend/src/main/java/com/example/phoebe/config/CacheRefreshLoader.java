@@ -0,0 +1,13 @@
+package com.example.phoebe.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Loads a single entry of the named cache outside of the cached method. Lets Caffeine reload
+ * hot entries in the background ({@code refreshAfterWrite}) while readers keep getting the
+ * current value. Returning {@code null} removes the entry.
+ */
+public interface CacheRefreshLoader extends CacheLoader<Object, Object> {
+
+    String cacheName();
+}
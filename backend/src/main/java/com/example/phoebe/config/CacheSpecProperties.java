@@ -0,0 +1,33 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Caffeine specifications of application caches, keyed by cache name:
+ *
+ * <pre>
+ * app.cache.default-spec: maximumSize=1000,expireAfterWrite=15m,recordStats
+ * app.cache.specs.news-by-id: maximumSize=5000,expireAfterWrite=30m,refreshAfterWrite=5m,recordStats
+ * </pre>
+ *
+ * Caches without an own spec are created on first use with the default spec.
+ * {@code refreshAfterWrite} requires a {@link CacheRefreshLoader} for that cache.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheSpecProperties(
+        String defaultSpec,
+        Map<String, String> specs
+) {
+
+    public static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=15m,recordStats";
+
+    public String defaultSpecOrBuiltIn() {
+        return defaultSpec == null || defaultSpec.isBlank() ? DEFAULT_SPEC : defaultSpec;
+    }
+
+    public Map<String, String> specsOrEmpty() {
+        return specs == null ? Map.of() : specs;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.datagen.DataGenerator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+/**
+ * Fills an empty database with a synthetic dataset at startup when {@code app.data-generator.enabled} is true.
+ * Runs before the application reports ready, so the in-memory indexes are built over the generated data.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.data-generator.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class DataGeneratorConfig {
+
+    @Bean
+    public DataGenerator dataGenerator(DataGeneratorProperties properties, DataSource dataSource,
+                                       PasswordEncoder passwordEncoder) {
+        return new DataGenerator(properties, dataSource, passwordEncoder);
+    }
+
+    @Bean
+    public ApplicationRunner dataGeneratorRunner(DataGenerator dataGenerator) {
+        return args -> dataGenerator.run();
+    }
+}
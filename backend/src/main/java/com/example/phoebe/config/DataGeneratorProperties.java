@@ -0,0 +1,76 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size of the synthetic dataset written at startup when the generator is enabled (see the {@code perf} profile):
+ *
+ * <pre>
+ * app.data-generator.enabled: true
+ * app.data-generator.articles: 1000000
+ * app.data-generator.terms: 5000
+ * app.data-generator.users: 200
+ * app.data-generator.max-terms-per-article: 5
+ * app.data-generator.homepage-blocks: 8
+ * app.data-generator.batch-size: 5000
+ * app.data-generator.seed: 42
+ * app.data-generator.admin-password: perf-admin
+ * </pre>
+ *
+ * Term usage is skewed like real tagging: a few terms are on a large share of articles, most on a handful.
+ * The same seed always produces the same dataset.
+ */
+@ConfigurationProperties(prefix = "app.data-generator")
+public record DataGeneratorProperties(
+        boolean enabled,
+        Integer articles,
+        Integer terms,
+        Integer users,
+        Integer maxTermsPerArticle,
+        Integer homepageBlocks,
+        Integer batchSize,
+        Long seed,
+        String adminPassword
+) {
+
+    public static final int DEFAULT_ARTICLES = 1_000_000;
+    public static final int DEFAULT_TERMS = 5_000;
+    public static final int DEFAULT_USERS = 200;
+    public static final int DEFAULT_MAX_TERMS_PER_ARTICLE = 5;
+    public static final int DEFAULT_HOMEPAGE_BLOCKS = 8;
+    public static final int DEFAULT_BATCH_SIZE = 5_000;
+    public static final long DEFAULT_SEED = 42L;
+    public static final String DEFAULT_ADMIN_PASSWORD = "perf-admin";
+
+    public int articlesOrDefault() {
+        return articles == null || articles < 0 ? DEFAULT_ARTICLES : articles;
+    }
+
+    public int termsOrDefault() {
+        return terms == null || terms <= 0 ? DEFAULT_TERMS : terms;
+    }
+
+    public int usersOrDefault() {
+        return users == null || users <= 0 ? DEFAULT_USERS : users;
+    }
+
+    public int maxTermsPerArticleOrDefault() {
+        return maxTermsPerArticle == null || maxTermsPerArticle <= 0 ? DEFAULT_MAX_TERMS_PER_ARTICLE : maxTermsPerArticle;
+    }
+
+    public int homepageBlocksOrDefault() {
+        return homepageBlocks == null || homepageBlocks < 0 ? DEFAULT_HOMEPAGE_BLOCKS : homepageBlocks;
+    }
+
+    public int batchSizeOrDefault() {
+        return batchSize == null || batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
+    }
+
+    public long seedOrDefault() {
+        return seed == null ? DEFAULT_SEED : seed;
+    }
+
+    public String adminPasswordOrDefault() {
+        return adminPassword == null || adminPassword.isBlank() ? DEFAULT_ADMIN_PASSWORD : adminPassword;
+    }
+}
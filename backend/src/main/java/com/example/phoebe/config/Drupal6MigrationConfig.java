@@ -0,0 +1,32 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.migration.Drupal6Migration;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Runs the Drupal 6 migration once at startup when {@code app.drupal6-migration.enabled} is true.
+ * A failed run stops startup; starting again resumes from the stored checkpoints.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.drupal6-migration.enabled", havingValue = "true")
+@EnableConfigurationProperties(Drupal6MigrationProperties.class)
+public class Drupal6MigrationConfig {
+
+    @Bean
+    public Drupal6Migration drupal6Migration(Drupal6MigrationProperties properties, DataSource dataSource,
+                                             PlatformTransactionManager transactionManager) {
+        return new Drupal6Migration(properties, dataSource, transactionManager);
+    }
+
+    @Bean
+    public ApplicationRunner drupal6MigrationRunner(Drupal6Migration migration) {
+        return args -> migration.run();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the Drupal 6 migration, which runs at startup when enabled:
+ *
+ * <pre>
+ * app.drupal6-migration.enabled: true
+ * app.drupal6-migration.source-url: jdbc:mysql://localhost:3307/drupal6_legacy
+ * app.drupal6-migration.source-username: root
+ * app.drupal6-migration.source-password: root
+ * app.drupal6-migration.batch-size: 1000
+ * app.drupal6-migration.workers: 4
+ * app.drupal6-migration.fast-load-directory: /tmp/phoebe-migration
+ * </pre>
+ *
+ * {@code fast-load-directory} enables {@code LOAD DATA LOCAL INFILE} on a MySQL target; the target
+ * JDBC URL must then allow it with {@code allowLoadLocalInfileInPath} set to the same directory.
+ */
+@ConfigurationProperties(prefix = "app.drupal6-migration")
+public record Drupal6MigrationProperties(
+        boolean enabled,
+        String sourceUrl,
+        String sourceUsername,
+        String sourcePassword,
+        Integer batchSize,
+        Integer workers,
+        Long fallbackAuthorId,
+        String passwordHash,
+        String fastLoadDirectory
+) {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Author of articles whose Drupal user was not migrated; created by V4 as "imported_author". */
+    public static final long DEFAULT_FALLBACK_AUTHOR_ID = 999L;
+
+    /** Drupal 6 MD5 hashes cannot be reused; migrated accounts cannot log in until their password is reset. */
+    public static final String DEFAULT_PASSWORD_HASH = "!migrated";
+
+    public int batchSizeOrDefault() {
+        return batchSize == null || batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
+    }
+
+    public int workersOrDefault() {
+        return workers == null || workers <= 0 ? Runtime.getRuntime().availableProcessors() : workers;
+    }
+
+    public long fallbackAuthorIdOrDefault() {
+        return fallbackAuthorId == null ? DEFAULT_FALLBACK_AUTHOR_ID : fallbackAuthorId;
+    }
+
+    public String passwordHashOrDefault() {
+        return passwordHash == null || passwordHash.isBlank() ? DEFAULT_PASSWORD_HASH : passwordHash;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cache-Control policies of public endpoints, keyed by endpoint name
+ * ({@code news}, {@code channel-settings}, {@code homepage}):
+ *
+ * <pre>
+ * app.http-cache.endpoints.news.max-age: 60s
+ * app.http-cache.endpoints.news.shared-max-age: 5m
+ * </pre>
+ *
+ * Endpoints without a policy are served with {@code no-cache}: clients may store the response
+ * but must revalidate it (cheaply, via ETag) before every reuse.
+ */
+@ConfigurationProperties(prefix = "app.http-cache")
+public record HttpCacheProperties(
+        Map<String, Policy> endpoints
+) {
+
+    public static final String NEWS = "news";
+    public static final String CHANNEL_SETTINGS = "channel-settings";
+    public static final String HOMEPAGE = "homepage";
+
+    /**
+     * @param maxAge       freshness lifetime for browsers and shared caches
+     * @param sharedMaxAge optional separate lifetime for shared caches (CDN), s-maxage
+     */
+    public record Policy(
+            Duration maxAge,
+            Duration sharedMaxAge
+    ) {}
+
+    public CacheControl cacheControl(String endpoint) {
+        Policy policy = endpoints == null ? null : endpoints.get(endpoint);
+        if (policy == null || policy.maxAge() == null || policy.maxAge().isZero()) {
+            return CacheControl.noCache().cachePublic();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(policy.maxAge()).cachePublic();
+        if (policy.sharedMaxAge() != null) {
+            cacheControl = cacheControl.sMaxAge(policy.sharedMaxAge());
+        }
+        return cacheControl;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.monitoring.jfr.JfrRecordingEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * On-demand Java Flight Recordings through {@code /actuator/jfr} (ADMIN role, see {@link SecurityConfig}).
+ * The custom phoebe.* events in {@code com.example.phoebe.monitoring.jfr} are emitted regardless and cost
+ * next to nothing while no recording is running.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint(@Value("${app.jfr.max-duration:5m}") Duration maxDuration) {
+        return new JfrRecordingEndpoint(maxDuration);
+    }
+}
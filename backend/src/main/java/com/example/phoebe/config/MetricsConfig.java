@@ -0,0 +1,27 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.monitoring.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics on top of what Spring Boot binds itself (HTTP server requests per URI pattern,
+ * JVM, Hikari pool, caches of the CacheManager), all exported at {@code /actuator/prometheus}.
+ *
+ * Tag conventions: tag values come from code or configuration (URI patterns, class and method names,
+ * bucket types), never from request data such as ids, query strings or user names.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Per-method timers for the service layer; {@code app.metrics.service-timers.enabled: false} turns them off.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.service-timers.enabled", havingValue = "true", matchIfMissing = true)
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.ratelimit.JdbcRateLimitBackend;
+import com.example.phoebe.ratelimit.LocalRateLimitBackend;
+import com.example.phoebe.ratelimit.RateLimitBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Selects where rate-limit buckets live via {@code app.rate-limit.backend}:
+ * - {@code local} (default): in-memory, per replica.
+ * - {@code jdbc}: shared across replicas in the {@code rate_limit_bucket} table.
+ */
+@Configuration
+public class RateLimitBackendConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+    public RateLimitBackend localRateLimitBackend() {
+        return new LocalRateLimitBackend();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "jdbc")
+    public RateLimitBackend jdbcRateLimitBackend(
+            DataSource dataSource,
+            @Value("${app.rate-limit.jdbc.max-unsynced-tokens:5}") long maxUnsyncedTokens,
+            @Value("${app.rate-limit.jdbc.max-unsynced-timeout:1s}") Duration maxUnsyncedTimeout,
+            @Value("${app.rate-limit.jdbc.cleanup-interval:5m}") Duration cleanupInterval) {
+        return new JdbcRateLimitBackend(dataSource, maxUnsyncedTokens, maxUnsyncedTimeout, cleanupInterval);
+    }
+}
@@ -1,32 +1,93 @@
 package com.example.phoebe.config;
 
+import com.example.phoebe.ratelimit.ClientKey;
+import com.example.phoebe.ratelimit.LocalRateLimitBackend;
+import com.example.phoebe.ratelimit.RateLimitBackend;
+import com.example.phoebe.ratelimit.RateLimitBucketStore;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Rate limiting configuration using Bucket4j.
  * Provides different rate limits for public and admin APIs.
+ * Buckets live in a bounded, expiring {@link RateLimitBucketStore} keyed by compact {@link ClientKey}s
+ * and are created by the configured {@link RateLimitBackend} (in-memory by default, or shared
+ * through the database, see {@link RateLimitBackendConfig}).
  */
 @Configuration
 public class RateLimitConfig {
 
-    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private static final byte SCOPE_PUBLIC = 1;
+    private static final byte SCOPE_ADMIN = 2;
+    private static final byte SCOPE_AUTH = 3;
+
+    private static final long DEFAULT_MAX_BUCKETS = 100_000;
+    // Must not be shorter than the longest refill period below (5 minutes)
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    // Public API: 100 requests per minute
+    private static final BucketConfiguration PUBLIC_LIMITS = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(100).refillIntervally(100, Duration.ofMinutes(1)).build())
+            .build();
+    // Admin API: 50 requests per minute (more restrictive)
+    private static final BucketConfiguration ADMIN_LIMITS = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(50).refillIntervally(50, Duration.ofMinutes(1)).build())
+            .build();
+    // Authentication: 5 login attempts per 5 minutes (strict protection against brute-force)
+    private static final BucketConfiguration AUTH_LIMITS = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(5).refillIntervally(5, Duration.ofMinutes(5)).build())
+            .build();
+
+    private final RateLimitBackend backend;
+    private final RateLimitBucketStore buckets;
+    // Indexed by Limit ordinal: decisions that let the request through and those that rejected it
+    private final LongAdder[] allowed = newAdders();
+    private final LongAdder[] rejected = newAdders();
+
+    /**
+     * Kinds of bucket, used as the {@code bucket} tag of the {@code ratelimit.requests} metric.
+     */
+    public enum Limit {
+        PUBLIC,
+        ADMIN,
+        AUTH
+    }
+
+    public RateLimitConfig() {
+        this(DEFAULT_MAX_BUCKETS, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public RateLimitConfig(long maxBuckets, Duration idleTimeout) {
+        this(new LocalRateLimitBackend(), maxBuckets, idleTimeout);
+    }
+
+    @Autowired
+    public RateLimitConfig(RateLimitBackend backend,
+                           @Value("${app.rate-limit.max-buckets:100000}") long maxBuckets,
+                           @Value("${app.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this.backend = backend;
+        this.buckets = new RateLimitBucketStore(maxBuckets, idleTimeout);
+    }
 
     /**
      * Get or create bucket for IP address with public API limits.
      * Limit: 100 requests per minute.
      */
     public Bucket getPublicBucket(String ipAddress) {
-        return buckets.computeIfAbsent("public:" + ipAddress, key ->
-            Bucket.builder()
-                // Use the modern builder pattern for creating bandwidths
-                .addLimit(Bandwidth.builder().capacity(100).refillIntervally(100, Duration.ofMinutes(1)).build())
-                .build()
-        );
+        return buckets.getOrCreate(ClientKey.of(SCOPE_PUBLIC, ipAddress),
+                key -> backend.createBucket(key, PUBLIC_LIMITS));
     }
 
     /**
@@ -34,12 +95,8 @@ public class RateLimitConfig {
      * Limit: 50 requests per minute (more restrictive).
      */
     public Bucket getAdminBucket(String ipAddress) {
-        return buckets.computeIfAbsent("admin:" + ipAddress, key ->
-            Bucket.builder()
-                // Use the modern builder pattern for creating bandwidths
-                .addLimit(Bandwidth.builder().capacity(50).refillIntervally(50, Duration.ofMinutes(1)).build())
-                .build()
-        );
+        return buckets.getOrCreate(ClientKey.of(SCOPE_ADMIN, ipAddress),
+                key -> backend.createBucket(key, ADMIN_LIMITS));
     }
 
     /**
@@ -47,10 +104,62 @@ public class RateLimitConfig {
      * Limit: 5 login attempts per 5 minutes (strict protection against brute-force).
      */
     public Bucket getAuthBucket(String ipAddress) {
-        return buckets.computeIfAbsent("auth:" + ipAddress, key ->
-            Bucket.builder()
-                .addLimit(Bandwidth.builder().capacity(5).refillIntervally(5, Duration.ofMinutes(5)).build())
-                .build()
-        );
+        return buckets.getOrCreate(ClientKey.of(SCOPE_AUTH, ipAddress),
+                key -> backend.createBucket(key, AUTH_LIMITS));
+    }
+
+    /**
+     * Counts one rate-limit decision; call it wherever a bucket from this class is consumed.
+     */
+    public void recordDecision(Limit limit, boolean consumed) {
+        (consumed ? allowed : rejected)[limit.ordinal()].increment();
+    }
+
+    /**
+     * Approximate number of buckets currently held by this instance.
+     */
+    public long getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Number of buckets evicted so far because of the size bound or idle expiry.
+     */
+    public long getEvictionCount() {
+        return buckets.evictionCount();
+    }
+
+    /**
+     * Publishes store size, evictions and allow/reject decisions to the actuator metrics endpoint.
+     */
+    @Bean
+    public MeterBinder rateLimitBucketMetrics() {
+        return registry -> {
+            Gauge.builder("ratelimit.buckets", this, RateLimitConfig::getBucketCount)
+                    .description("Rate-limit buckets currently held in memory")
+                    .register(registry);
+            FunctionCounter.builder("ratelimit.buckets.evictions", this, RateLimitConfig::getEvictionCount)
+                    .description("Rate-limit buckets evicted by size bound or idle expiry")
+                    .register(registry);
+            for (Limit limit : Limit.values()) {
+                String bucket = limit.name().toLowerCase(Locale.ROOT);
+                FunctionCounter.builder("ratelimit.requests", allowed[limit.ordinal()], LongAdder::sum)
+                        .description("Rate-limit decisions by bucket type")
+                        .tags("bucket", bucket, "result", "allowed")
+                        .register(registry);
+                FunctionCounter.builder("ratelimit.requests", rejected[limit.ordinal()], LongAdder::sum)
+                        .description("Rate-limit decisions by bucket type")
+                        .tags("bucket", bucket, "result", "rejected")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[Limit.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
     }
 }
@@ -0,0 +1,12 @@
+package com.example.phoebe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks (e.g. polling settings versions for changes made by other replicas).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
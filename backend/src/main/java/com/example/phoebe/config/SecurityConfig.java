@@ -1,9 +1,17 @@
 package com.example.phoebe.config;
 
+import com.example.phoebe.security.AccessTokenAuthenticationFilter;
+import com.example.phoebe.security.AuthenticationCache;
+import com.example.phoebe.security.CachingAuthenticationProvider;
 import com.example.phoebe.security.DatabaseUserDetailsService;
 import com.example.phoebe.security.RoleConstants;
+import com.example.phoebe.security.TokenService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +20,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -20,6 +29,7 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(SecurityProperties.class)
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
@@ -30,22 +40,40 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationProvider authenticationProvider,
+                                           TokenService tokenService) throws Exception {
         return http
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus", "/actuator/jfr").hasRole(RoleConstants.ADMIN)
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/admin/auth/login").permitAll()
                         .requestMatchers("/api/admin/**").hasRole(RoleConstants.ADMIN)
                         .anyRequest().authenticated()
                 )
                 .httpBasic(Customizer.withDefaults())
+                // Bearer tokens are checked first; without one the request falls through to HTTP Basic
+                .addFilterBefore(new AccessTokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
-                .userDetailsService(userDetailsService)
+                .authenticationProvider(authenticationProvider)
                 .build();
     }
 
+    /**
+     * Database-backed username/password authentication with a short-lived cache of verified
+     * credentials in front of it, so repeated HTTP Basic requests skip the user query and BCrypt.
+     */
+    @Bean
+    public AuthenticationProvider authenticationProvider(AuthenticationCache authenticationCache,
+                                                         PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider daoProvider = new DaoAuthenticationProvider();
+        daoProvider.setUserDetailsService(userDetailsService);
+        daoProvider.setPasswordEncoder(passwordEncoder);
+        return new CachingAuthenticationProvider(daoProvider, authenticationCache);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,52 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.filter.SqlStatsFilter;
+import com.example.phoebe.monitoring.SqlRecordingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Records SQL statements, rows and JDBC time per HTTP request and flags likely N+1 queries.
+ * On by default; {@code app.sql-stats.enabled: false} removes both the DataSource wrapper and the filter.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlStatsProperties.class)
+public class SqlStatsConfig {
+
+    /**
+     * Wraps the application DataSource; static so that it is registered before the DataSource is created.
+     */
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlRecordingDataSource)) {
+                    return new SqlRecordingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Runs first, so statements of the security filters (token and user lookups) are counted as well.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(SqlStatsProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatsFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statistics (see {@link SqlStatsConfig}):
+ *
+ * <pre>
+ * app.sql-stats.enabled: true
+ * app.sql-stats.response-headers: false
+ * app.sql-stats.repeated-statement-threshold: 10
+ * </pre>
+ *
+ * {@code response-headers} adds {@code X-SQL-Statements}, {@code X-SQL-Rows} and {@code X-SQL-Time-Ms}
+ * to every response; it buffers response bodies and is meant for development. A request that runs
+ * the same SQL shape more than {@code repeated-statement-threshold} times is logged as a likely N+1.
+ */
+@ConfigurationProperties(prefix = "app.sql-stats")
+public record SqlStatsProperties(
+        boolean responseHeaders,
+        Integer repeatedStatementThreshold
+) {
+
+    public static final int DEFAULT_REPEATED_STATEMENT_THRESHOLD = 10;
+
+    public int repeatedStatementThresholdOrDefault() {
+        return repeatedStatementThreshold == null || repeatedStatementThreshold <= 0
+                ? DEFAULT_REPEATED_STATEMENT_THRESHOLD : repeatedStatementThreshold;
+    }
+}
@@ -3,7 +3,12 @@ package com.example.phoebe.controller;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
 import com.example.phoebe.dto.request.NewsCreateRequestDto;
 import com.example.phoebe.dto.request.NewsUpdateRequestDto;
+import com.example.phoebe.dto.response.BulkActionJobDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsImportResultDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
+import com.example.phoebe.service.BulkActionJobService;
+import com.example.phoebe.service.NewsImportService;
 import com.example.phoebe.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -12,7 +17,9 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,24 +30,40 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/admin/news")
 @Tag(name = "Admin News API", description = "Endpoints for administrators/editors to manage news content")
 public class AdminNewsController {
 
     private final NewsService newsService;
+    private final BulkActionJobService bulkActionJobService;
+    private final NewsImportService newsImportService;
 
-    public AdminNewsController(NewsService newsService) {
+    public AdminNewsController(NewsService newsService, BulkActionJobService bulkActionJobService,
+                               NewsImportService newsImportService) {
         this.newsService = newsService;
+        this.bulkActionJobService = bulkActionJobService;
+        this.newsImportService = newsImportService;
     }
 
     @GetMapping
     @Operation(summary = "Find all news",
             description = "Finds all news articles, respecting user roles (ADMIN sees all, EDITOR sees own).")
-    public Page<NewsDto> findAll(Pageable pageable, Authentication authentication) {
+    public Page<NewsSummaryDto> findAll(Pageable pageable, Authentication authentication) {
         return newsService.findAllForUser(pageable, authentication);
     }
 
+    @GetMapping("/{id}")
+    @Operation(summary = "Find an article by ID",
+            description = "Returns the full article including its body. EDITOR can only read own articles.")
+    public NewsDto findById(@PathVariable Long id, Authentication authentication) {
+        return newsService.findById(id, authentication);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new article")
     public ResponseEntity<NewsDto> create(@RequestBody @Valid NewsCreateRequestDto createRequest,
@@ -72,4 +95,40 @@ public class AdminNewsController {
         BulkActionRequestDto.BulkActionResult result = newsService.performBulkAction(request, authentication);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Start a bulk operation as a background job",
+            description = "Processes matching articles in chunks, each in its own transaction. Poll the returned job for progress.")
+    public ResponseEntity<BulkActionJobDto> submitBulkJob(
+        @RequestBody @Valid BulkActionRequestDto request, Authentication authentication) {
+        BulkActionJobDto job = bulkActionJobService.submit(request, authentication.getName());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/news/bulk/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get status and progress of a bulk job")
+    public BulkActionJobDto getBulkJob(@PathVariable String jobId) {
+        return bulkActionJobService.getJob(jobId);
+    }
+
+    @DeleteMapping("/bulk/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancel a bulk job",
+            description = "A running job stops after its current chunk; already processed chunks stay committed.")
+    public BulkActionJobDto cancelBulkJob(@PathVariable String jobId) {
+        return bulkActionJobService.cancel(jobId);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR')")
+    @Operation(summary = "Import articles from NDJSON",
+            description = "Streams one JSON article per line and writes them in JDBC batches. "
+                    + "Invalid lines are reported by line number; valid lines are imported.")
+    public NewsImportResultDto importNews(InputStream body, Authentication authentication) throws IOException {
+        return newsImportService.importNdjson(body, authentication);
+    }
+}
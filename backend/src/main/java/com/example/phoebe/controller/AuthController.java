@@ -2,21 +2,35 @@ package com.example.phoebe.controller;
 
 import io.github.bucket4j.Bucket;
 import com.example.phoebe.config.RateLimitConfig;
+import com.example.phoebe.dto.request.LoginRequestDto;
+import com.example.phoebe.dto.response.AccessTokenDto;
 import com.example.phoebe.dto.response.UserDto;
 import com.example.phoebe.entity.User;
 import com.example.phoebe.mapper.UserMapper;
 import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.RoleConstants;
+import com.example.phoebe.security.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Controller for authentication-related endpoints.
  */
@@ -28,11 +42,52 @@ public class AuthController {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final RateLimitConfig rateLimitConfig;
+    private final AuthenticationProvider authenticationProvider;
+    private final TokenService tokenService;
 
-    public AuthController(UserRepository userRepository, UserMapper userMapper, RateLimitConfig rateLimitConfig) {
+    public AuthController(UserRepository userRepository, UserMapper userMapper, RateLimitConfig rateLimitConfig,
+                          AuthenticationProvider authenticationProvider, TokenService tokenService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.rateLimitConfig = rateLimitConfig;
+        this.authenticationProvider = authenticationProvider;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Exchange username and password for a short-lived bearer access token.
+     * Requests authenticated with the token skip the credential check entirely.
+     */
+    @PostMapping("/login")
+    @Operation(summary = "Log in", description = "Verifies credentials once and returns a signed, short-lived access token")
+    public ResponseEntity<AccessTokenDto> login(@Valid @RequestBody LoginRequestDto loginRequest,
+                                                HttpServletRequest request) {
+        Bucket bucket = rateLimitConfig.getAuthBucket(getClientIp(request));
+        boolean consumed = bucket.tryConsume(1);
+        rateLimitConfig.recordDecision(RateLimitConfig.Limit.AUTH, consumed);
+        if (!consumed) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        Authentication authentication;
+        try {
+            authentication = authenticationProvider.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(loginRequest.username(), loginRequest.password()));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String username = authentication.getName();
+        Long userId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(RoleConstants.ROLE_PREFIX))
+                .map(authority -> authority.substring(RoleConstants.ROLE_PREFIX.length()))
+                .collect(Collectors.toList());
+
+        String token = tokenService.issue(userId, username, roles);
+        return ResponseEntity.ok(new AccessTokenDto(token, "Bearer", tokenService.getTtl().toSeconds()));
     }
 
     /**
@@ -44,8 +99,10 @@ public class AuthController {
     public ResponseEntity<UserDto> getCurrentUser(Authentication authentication, HttpServletRequest request) {
         String ipAddress = getClientIp(request);
         Bucket bucket = rateLimitConfig.getAuthBucket(ipAddress);
+        boolean consumed = bucket.tryConsume(1);
+        rateLimitConfig.recordDecision(RateLimitConfig.Limit.AUTH, consumed);
         
-        if (!bucket.tryConsume(1)) {
+        if (!consumed) {
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
         }
         
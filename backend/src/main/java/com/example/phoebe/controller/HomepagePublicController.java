@@ -1,31 +1,53 @@
 package com.example.phoebe.controller;
 
+import com.example.phoebe.config.HttpCacheProperties;
+import com.example.phoebe.controller.support.ConditionalGet;
 import com.example.phoebe.dto.HomepageModeDto;
-import com.example.phoebe.dto.response.PublicHomepageResponseDto;
 import com.example.phoebe.service.HomepageSettingsService;
-import com.example.phoebe.service.PublicHomepageService;
+import com.example.phoebe.service.HomepageSnapshotService;
+import com.example.phoebe.value.CacheValidator;
+import com.example.phoebe.value.HomepageSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/public/homepage")
 public class HomepagePublicController {
 
     private final HomepageSettingsService settingsService;
-    private final PublicHomepageService publicHomepageService;
+    private final HomepageSnapshotService homepageSnapshotService;
+    private final HttpCacheProperties httpCacheProperties;
 
-    public HomepagePublicController(HomepageSettingsService settingsService, PublicHomepageService publicHomepageService) {
+    public HomepagePublicController(HomepageSettingsService settingsService, HomepageSnapshotService homepageSnapshotService,
+                                    HttpCacheProperties httpCacheProperties) {
         this.settingsService = settingsService;
-        this.publicHomepageService = publicHomepageService;
+        this.homepageSnapshotService = homepageSnapshotService;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
-    @GetMapping
-    public ResponseEntity<PublicHomepageResponseDto> getHomepage() {
-        return ResponseEntity.ok(publicHomepageService.getHomepageContent());
+    /**
+     * Serves the pre-rendered homepage snapshot. Returns 304 when the client already holds
+     * the current version (If-None-Match), with the configured Cache-Control either way.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getHomepage(WebRequest webRequest) {
+        HomepageSnapshot snapshot = homepageSnapshotService.getSnapshot();
+        // builtAt moves on every rebuild even when the content is unchanged, so only the ETag validates
+        CacheValidator validator = new CacheValidator(snapshot.etag(), null);
+        CacheControl cacheControl = httpCacheProperties.cacheControl(HttpCacheProperties.HOMEPAGE);
+        if (ConditionalGet.isNotModified(webRequest, validator)) {
+            return ConditionalGet.notModified(validator, cacheControl);
+        }
+        return ConditionalGet.ok(validator, cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     @GetMapping("/mode")
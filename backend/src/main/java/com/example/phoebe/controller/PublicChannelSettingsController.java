@@ -1,5 +1,7 @@
 package com.example.phoebe.controller;
 
+import com.example.phoebe.config.HttpCacheProperties;
+import com.example.phoebe.controller.support.ConditionalGet;
 import com.example.phoebe.dto.response.ChannelSettingsDto;
 import com.example.phoebe.service.ChannelSettingsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Public controller for channel settings.
@@ -18,16 +21,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class PublicChannelSettingsController {
 
     private final ChannelSettingsService channelSettingsService;
+    private final HttpCacheProperties httpCacheProperties;
 
-    public PublicChannelSettingsController(ChannelSettingsService channelSettingsService) {
+    public PublicChannelSettingsController(ChannelSettingsService channelSettingsService,
+                                           HttpCacheProperties httpCacheProperties) {
         this.channelSettingsService = channelSettingsService;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
     @GetMapping("/channel-settings")
     @Operation(summary = "Get current channel settings", 
                description = "Returns site-wide configuration like title, meta tags, and HTML snippets")
-    public ResponseEntity<ChannelSettingsDto> getChannelSettings() {
-        ChannelSettingsDto settings = channelSettingsService.getSettings();
-        return ResponseEntity.ok(settings);
+    public ResponseEntity<ChannelSettingsDto> getChannelSettings(WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, channelSettingsService.getSettingsValidator(),
+                httpCacheProperties.cacheControl(HttpCacheProperties.CHANNEL_SETTINGS),
+                channelSettingsService::getSettings);
     }
 }
\ No newline at end of file
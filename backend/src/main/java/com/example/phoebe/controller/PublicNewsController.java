@@ -1,15 +1,24 @@
 package com.example.phoebe.controller;
 
+import com.example.phoebe.config.HttpCacheProperties;
+import com.example.phoebe.controller.support.ConditionalGet;
+import com.example.phoebe.dto.response.CursorPageDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
 import com.example.phoebe.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/public/news")
@@ -17,20 +26,59 @@ import org.springframework.web.bind.annotation.RestController;
 public class PublicNewsController {
 
     private final NewsService newsService;
+    private final HttpCacheProperties httpCacheProperties;
 
-    public PublicNewsController(NewsService newsService) {
+    public PublicNewsController(NewsService newsService, HttpCacheProperties httpCacheProperties) {
         this.newsService = newsService;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
+    /**
+     * Listing items carry no body; the article text comes from {@code /api/public/news/{id}}.
+     */
     @GetMapping
     @Operation(summary = "Find all published news")
-    public Page<NewsDto> findAllPublished(Pageable pageable) {
+    public Page<NewsSummaryDto> findAllPublished(Pageable pageable) {
         return newsService.findAllPublished(pageable);
     }
 
+    /**
+     * Cursor mode of the listing, selected by the presence of the {@code cursor} parameter.
+     * Pass an empty cursor for the first page, then the returned {@code nextCursor}.
+     * Unlike the offset mode, no total count is computed, so deep pages stay cheap.
+     */
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Find published news using cursor (keyset) pagination")
+    public CursorPageDto<NewsSummaryDto> findAllPublishedByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return newsService.findAllPublished(cursor, size);
+    }
+
+    /**
+     * Category page: published news of one term, newest first unless another sort is requested.
+     */
+    @GetMapping("/term/{termId}")
+    @Operation(summary = "Find published news by term ID")
+    public Page<NewsSummaryDto> findByTermId(@PathVariable Long termId, Pageable pageable) {
+        return newsService.findByTermId(termId, pageable);
+    }
+
+    @GetMapping("/terms")
+    @Operation(summary = "Find published news tagged with any of the given term IDs")
+    public Page<NewsSummaryDto> findByTermIds(@RequestParam List<Long> termIds, Pageable pageable) {
+        return newsService.findByTermIds(termIds, pageable);
+    }
+
+    /**
+     * Supports If-None-Match / If-Modified-Since: the validators come from the article's version
+     * columns, so a 304 is answered without loading or mapping the article.
+     */
     @GetMapping("/{id}")
     @Operation(summary = "Find a published news article by ID")
-    public NewsDto findPublishedById(@PathVariable Long id) {
-        return newsService.findPublishedById(id);
+    public ResponseEntity<NewsDto> findPublishedById(@PathVariable Long id, WebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, newsService.getPublishedValidator(id),
+                httpCacheProperties.cacheControl(HttpCacheProperties.NEWS),
+                () -> newsService.findPublishedById(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.phoebe.controller;
+
+import com.example.phoebe.dto.response.NewsSearchResultDto;
+import com.example.phoebe.dto.response.PagedResponseDto;
+import com.example.phoebe.service.NewsSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Public full-text search over published news.
+ */
+@RestController
+@RequestMapping("/api/public/search")
+@Tag(name = "Public Search API", description = "Full-text search over published news")
+public class PublicSearchController {
+
+    private final NewsSearchService newsSearchService;
+
+    public PublicSearchController(NewsSearchService newsSearchService) {
+        this.newsSearchService = newsSearchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search published news",
+               description = "Ranked search over title, teaser and body. The last word is matched as a prefix. "
+                       + "Optional filters: taxonomy term and publication date range (inclusive, ISO dates).")
+    public PagedResponseDto<NewsSearchResultDto> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long termId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        LocalDateTime fromInclusive = from == null ? null : from.atStartOfDay();
+        LocalDateTime toExclusive = to == null ? null : to.plusDays(1).atStartOfDay();
+        return newsSearchService.search(query, termId, fromInclusive, toExclusive, page, size);
+    }
+}
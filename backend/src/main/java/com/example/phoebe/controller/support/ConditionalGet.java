@@ -0,0 +1,85 @@
+package com.example.phoebe.controller.support;
+
+import com.example.phoebe.value.CacheValidator;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for controllers that can obtain validators more cheaply than the body.
+ *
+ * Notes:
+ * - If-None-Match takes precedence; If-Modified-Since is only consulted without it (RFC 9110).
+ * - The check runs before the body supplier, so a 304 never loads or maps the entity.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, CacheValidator validator,
+                                                CacheControl cacheControl, Supplier<T> body) {
+        if (isNotModified(request, validator)) {
+            return notModified(validator, cacheControl);
+        }
+        return ok(validator, cacheControl).body(body.get());
+    }
+
+    public static boolean isNotModified(WebRequest request, CacheValidator validator) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.length > 0) {
+            for (String header : ifNoneMatch) {
+                if (matchesEtag(header, validator.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || validator.lastModified() == null) {
+            return false;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince);
+        long since = headers.getIfModifiedSince();
+        // HTTP dates have second precision
+        return since >= 0 && validator.lastModified().getEpochSecond() * 1000 <= since;
+    }
+
+    public static <T> ResponseEntity<T> notModified(CacheValidator validator, CacheControl cacheControl) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), validator, cacheControl).build();
+    }
+
+    public static ResponseEntity.BodyBuilder ok(CacheValidator validator, CacheControl cacheControl) {
+        return withValidators(ResponseEntity.ok(), validator, cacheControl);
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                             CacheValidator validator, CacheControl cacheControl) {
+        builder.eTag(validator.etag()).cacheControl(cacheControl);
+        if (validator.lastModified() != null) {
+            builder.lastModified(validator.lastModified());
+        }
+        return builder;
+    }
+
+    /** Weak comparison, as required for If-None-Match; a W/ prefix on either side is ignored. */
+    private static boolean matchesEtag(String header, String etag) {
+        String current = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || stripWeak(value).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.phoebe.datagen;
+
+import com.example.phoebe.config.DataGeneratorProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic, production-sized dataset: users with roles, terms, articles with skewed term
+ * fan-out, homepage blocks and the settings singletons.
+ *
+ * Notes:
+ * - Plain JDBC batches, one transaction per batch; article ids come back through generated keys,
+ *   so no database-specific id handling is needed (works on the embedded H2 of the {@code perf}
+ *   profile as well as on MySQL).
+ * - Runs only against a database it has not filled before (marker: the first generated user),
+ *   so restarting with a file-based database keeps the data. Articles are written last, so a dataset
+ *   without the final article comes from an interrupted run and fails the start instead of being reused.
+ * - Deterministic for a given seed; publication dates spread over ten years, newest articles last.
+ */
+public class DataGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataGenerator.class);
+
+    static final String USER_PREFIX = "gen_user_";
+    static final String ADMIN_USERNAME = "perf_admin";
+    /** Share of terms in the "category" vocabulary; the rest are tags. */
+    private static final int CATEGORY_TERMS = 50;
+    /** Larger values concentrate articles on fewer terms; 3 puts about a fifth of all links on 1% of terms. */
+    private static final double TERM_SKEW = 3.0;
+    private static final int PUBLISHED_PERCENT = 92;
+    private static final Duration DATE_RANGE = Duration.ofDays(3650);
+    private static final String[] WORDS = (
+            "government market city council election report police court health school climate energy "
+            + "budget minister company players season festival museum transport housing water storm "
+            + "research university hospital tax price workers union strike agreement vote mayor region "
+            + "border trade police investigation community village river bridge airport railway football "
+            + "concert exhibition theatre science study data technology startup bank inflation rate").split(" ");
+
+    private static final String INSERT_CONTENT =
+            "INSERT INTO content (title, body, teaser, publication_date, published, created_at, updated_at, version, author_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final String INSERT_CONTENT_TERM = "INSERT INTO content_terms (content_id, term_id) VALUES (?, ?)";
+
+    private final DataGeneratorProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public DataGenerator(DataGeneratorProperties properties, DataSource dataSource, PasswordEncoder passwordEncoder) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public void run() {
+        if (exists("users", "username", USER_PREFIX + 1)) {
+            // Articles are written last and in order, so the final one marks a complete run
+            if (!exists("content", "title", articleTitle(properties.articlesOrDefault()))) {
+                throw new IllegalStateException("Synthetic dataset is incomplete (interrupted run or a larger "
+                        + "article count); drop the database to regenerate");
+            }
+            LOGGER.info("Synthetic dataset already present, skipping generation (drop the database to regenerate)");
+            return;
+        }
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.seedOrDefault());
+
+        ensureSettings();
+        long adminRoleId = ensureRole("ADMIN", "Full access");
+        long editorRoleId = ensureRole("EDITOR", "Manages own content");
+        List<Long> userIds = insertUsers(adminRoleId, editorRoleId);
+        List<Long> termIds = insertTerms();
+        insertHomepageBlocks(random, termIds);
+        long articles = insertArticles(random, userIds, termIds);
+
+        LOGGER.info("Synthetic dataset generated in {} s: {} users, {} terms, {} articles; log in as {}",
+                Duration.ofNanos(System.nanoTime() - started).toSeconds(), userIds.size(), termIds.size(), articles,
+                ADMIN_USERNAME);
+    }
+
+    private void ensureSettings() {
+        if (count("channel_settings") == 0) {
+            jdbcTemplate.update("INSERT INTO channel_settings (site_title, meta_description, meta_keywords, logo_url, "
+                            + "main_menu_term_ids, site_url, version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                    "Phoebe (synthetic data)", "Performance dataset", "perf", "/logo.png", "[]", "http://localhost:8080");
+        }
+        if (count("homepage_settings") == 0) {
+            jdbcTemplate.update("INSERT INTO homepage_settings (mode, version) VALUES ('CUSTOM', 0)");
+        }
+    }
+
+    private long ensureRole(String name, String description) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM roles WHERE name = ?", Long.class, name);
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        jdbcTemplate.update("INSERT INTO roles (name, description) VALUES (?, ?)", name, description);
+        return jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = ?", Long.class, name);
+    }
+
+    private List<Long> insertUsers(long adminRoleId, long editorRoleId) {
+        // One hash for everyone: hashing thousands of passwords would dominate the run
+        String adminHash = passwordEncoder.encode(properties.adminPasswordOrDefault());
+        String userHash = passwordEncoder.encode(USER_PREFIX + "password");
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= properties.usersOrDefault(); i++) {
+            users.add(new Object[] {USER_PREFIX + i, userHash, USER_PREFIX + i + "@example.com"});
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.queryForList("SELECT id FROM users WHERE username = ?", Long.class, ADMIN_USERNAME).isEmpty()) {
+                jdbcTemplate.update("INSERT INTO users (username, password, email, active) VALUES (?, ?, ?, TRUE)",
+                        ADMIN_USERNAME, adminHash, ADMIN_USERNAME + "@example.com");
+                jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT id, ? FROM users WHERE username = ?",
+                        adminRoleId, ADMIN_USERNAME);
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (username, password, email, active) VALUES (?, ?, ?, TRUE)", users);
+            jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT id, ? FROM users WHERE username LIKE ?",
+                    editorRoleId, USER_PREFIX + "%");
+        });
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE username LIKE ? ORDER BY id", Long.class,
+                USER_PREFIX + "%");
+    }
+
+    private List<Long> insertTerms() {
+        List<Object[]> terms = new ArrayList<>();
+        for (int i = 1; i <= properties.termsOrDefault(); i++) {
+            terms.add(i <= CATEGORY_TERMS
+                    ? new Object[] {"Category " + i, "category"}
+                    : new Object[] {"Tag " + i, "tag"});
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate("INSERT INTO terms (name, vocabulary) VALUES (?, ?)", terms));
+        // Ordered by popularity: index 0 is the most used term
+        return jdbcTemplate.queryForList("SELECT id FROM terms WHERE (name LIKE 'Category %' AND vocabulary = 'category') "
+                + "OR (name LIKE 'Tag %' AND vocabulary = 'tag') ORDER BY id", Long.class);
+    }
+
+    private long insertArticles(SplittableRandom random, List<Long> userIds, List<Long> termIds) {
+        int total = properties.articlesOrDefault();
+        int batchSize = properties.batchSizeOrDefault();
+        LocalDateTime newest = LocalDateTime.now().withNano(0);
+        long secondsBetween = Math.max(1, DATE_RANGE.toSeconds() / Math.max(1, total));
+        long started = System.nanoTime();
+        for (int from = 0; from < total; from += batchSize) {
+            List<GeneratedArticle> batch = new ArrayList<>(batchSize);
+            for (int i = from; i < Math.min(total, from + batchSize); i++) {
+                LocalDateTime date = newest.minusSeconds((total - 1L - i) * secondsBetween + random.nextLong(secondsBetween));
+                batch.add(new GeneratedArticle(i + 1, date, random.nextInt(100) < PUBLISHED_PERCENT,
+                        userIds.get(random.nextInt(userIds.size())), paragraph(random, 1 + random.nextInt(3)),
+                        pickTerms(random, termIds.size(), properties.maxTermsPerArticleOrDefault())));
+            }
+            transactionTemplate.executeWithoutResult(status -> writeArticles(batch, termIds));
+            int written = Math.min(total, from + batchSize);
+            if (written % (batchSize * 20) == 0 || written == total) {
+                double seconds = Math.max(0.001, (System.nanoTime() - started) / 1e9);
+                LOGGER.info("Generated {}/{} articles ({} rows/s)", written, total, Math.round(written / seconds));
+            }
+        }
+        return total;
+    }
+
+    private void writeArticles(List<GeneratedArticle> batch, List<Long> termIds) {
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_CONTENT, new String[] {"id"})) {
+                for (GeneratedArticle article : batch) {
+                    Timestamp date = Timestamp.valueOf(article.publicationDate());
+                    statement.setString(1, articleTitle(article.number()));
+                    statement.setString(2, article.body());
+                    statement.setString(3, article.body().substring(0, Math.min(200, article.body().length())));
+                    statement.setTimestamp(4, date);
+                    statement.setBoolean(5, article.published());
+                    statement.setTimestamp(6, date);
+                    statement.setTimestamp(7, date);
+                    statement.setLong(8, article.authorId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> generated = new ArrayList<>(batch.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+                return generated;
+            }
+        });
+        if (ids == null || ids.size() != batch.size()) {
+            throw new IllegalStateException("Expected " + batch.size() + " generated ids, got "
+                    + (ids == null ? 0 : ids.size()));
+        }
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (int termIndex : batch.get(i).termIndexes()) {
+                links.add(new Object[] {ids.get(i), termIds.get(termIndex)});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CONTENT_TERM, links);
+    }
+
+    private void insertHomepageBlocks(SplittableRandom random, List<Long> termIds) {
+        int blocks = properties.homepageBlocksOrDefault();
+        for (int weight = 0; weight < blocks; weight++) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            int blockWeight = weight;
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("INSERT INTO home_page_block "
+                        + "(weight, block_type, news_count, show_teaser, title_font_size) VALUES (?, 'NEWS_BLOCK', ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setInt(1, blockWeight);
+                statement.setInt(2, 4 + random.nextInt(7));
+                statement.setBoolean(3, blockWeight < 2);
+                statement.setString(4, blockWeight == 0 ? "large" : "medium");
+                return statement;
+            }, keyHolder);
+            Number blockId = keyHolder.getKey();
+            for (int termIndex : blockTermIndexes(weight, blocks, termIds.size())) {
+                jdbcTemplate.update("INSERT INTO home_page_block_taxonomy_term (home_page_block_id, taxonomy_term_id) "
+                        + "VALUES (?, ?)", blockId, termIds.get(termIndex));
+            }
+        }
+        if (blocks > 0) {
+            jdbcTemplate.update("INSERT INTO home_page_block (weight, block_type, content) VALUES (?, 'WIDGET_BLOCK', ?)",
+                    blocks, "<p>Synthetic widget</p>");
+        }
+    }
+
+    private boolean exists(String table, String column, String value) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, value);
+        return rows != null && rows > 0;
+    }
+
+    private static String articleTitle(int number) {
+        return "Generated article " + number;
+    }
+
+    private long count(String table) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * Term indexes of the homepage block at {@code weight}: front-page blocks show the most used categories,
+     * every third block also a less used term when there are enough terms.
+     */
+    static int[] blockTermIndexes(int weight, int blocks, int termCount) {
+        if (termCount == 0) {
+            return new int[0];
+        }
+        int category = weight % Math.min(CATEGORY_TERMS, termCount);
+        int secondary = blocks + weight;
+        return weight % 3 == 2 && secondary < termCount ? new int[] {category, secondary} : new int[] {category};
+    }
+
+    /**
+     * Distinct term indexes for one article: usually one to three, skewed towards low (popular) indexes.
+     */
+    static int[] pickTerms(SplittableRandom random, int termCount, int maxTerms) {
+        int wanted = Math.min(termCount, 1 + (int) (maxTerms * Math.pow(random.nextDouble(), 2)));
+        int[] picked = new int[wanted];
+        int size = 0;
+        while (size < wanted) {
+            int candidate = (int) (termCount * Math.pow(random.nextDouble(), TERM_SKEW));
+            boolean duplicate = false;
+            for (int i = 0; i < size && !duplicate; i++) {
+                duplicate = picked[i] == candidate;
+            }
+            if (!duplicate) {
+                picked[size++] = candidate;
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * HTML body of a few paragraphs of random sentences.
+     */
+    static String paragraph(SplittableRandom random, int paragraphs) {
+        StringBuilder body = new StringBuilder();
+        for (int p = 0; p < paragraphs; p++) {
+            body.append("<p>");
+            int sentences = 2 + random.nextInt(3);
+            for (int s = 0; s < sentences; s++) {
+                int words = 6 + random.nextInt(10);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    body.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word)
+                            .append(w == words - 1 ? ". " : " ");
+                }
+            }
+            body.append("</p>");
+        }
+        return body.toString();
+    }
+
+    private record GeneratedArticle(int number, LocalDateTime publicationDate, boolean published, long authorId,
+                                    String body, int[] termIndexes) {}
+}
@@ -6,14 +6,17 @@ import java.util.Set;
 
 /**
  * DTO for performing bulk operations on news articles.
- * Allows actions like DELETE or UNPUBLISH on a set of articles
- * selected by various filters.
+ * Allows actions like DELETE, (UN)PUBLISH or term (un)assignment on a set of
+ * articles selected by various filters.
  */
 public class BulkActionRequestDto {
 
     public enum ActionType {
         DELETE,
-        UNPUBLISH
+        UNPUBLISH,
+        PUBLISH,
+        ASSIGN_TERM,
+        REMOVE_TERM
     }
 
     public enum FilterType {
@@ -38,6 +41,9 @@ public class BulkActionRequestDto {
     // Used when filterType is BY_AUTHOR
     private Long authorId;
 
+    // Used when action is ASSIGN_TERM or REMOVE_TERM
+    private Long targetTermId;
+
     @AssertTrue(message = "Bulk operation must be confirmed")
     private boolean confirmed;
 
@@ -83,6 +89,14 @@ public class BulkActionRequestDto {
         this.authorId = authorId;
     }
 
+    public Long getTargetTermId() {
+        return targetTermId;
+    }
+
+    public void setTargetTermId(Long targetTermId) {
+        this.targetTermId = targetTermId;
+    }
+
     public boolean isConfirmed() {
         return confirmed;
     }
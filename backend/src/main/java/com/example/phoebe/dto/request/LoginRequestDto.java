@@ -0,0 +1,14 @@
+package com.example.phoebe.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for exchanging username and password for an access token.
+ */
+public record LoginRequestDto(
+        @NotBlank(message = "Username is required")
+        String username,
+
+        @NotBlank(message = "Password is required")
+        String password
+) {}
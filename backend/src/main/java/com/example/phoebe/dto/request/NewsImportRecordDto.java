@@ -0,0 +1,34 @@
+package com.example.phoebe.dto.request;
+
+import com.example.phoebe.validation.SafeHtml;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One line of an NDJSON news import. Validated like {@link NewsCreateRequestDto}; additionally
+ * a feed may set the publication date and publish directly.
+ *
+ * @param publicationDate optional, defaults to the import time
+ * @param published       optional, defaults to false
+ */
+public record NewsImportRecordDto(
+        @NotBlank(message = "Title is required")
+        @Size(max = 50, message = "Title must not exceed 50 characters")
+        String title,
+
+        @NotBlank(message = "Content is required")
+        String content,
+
+        @Size(max = 250, message = "Teaser must not exceed 250 characters")
+        @SafeHtml(message = "Teaser contains unsafe HTML tags")
+        String teaser,
+
+        LocalDateTime publicationDate,
+
+        Boolean published,
+
+        Set<Long> termIds
+) {}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+/**
+ * Access token issued by the login endpoint. Send it as {@code Authorization: Bearer <accessToken>}.
+ *
+ * @param expiresIn token lifetime in seconds
+ */
+public record AccessTokenDto(
+        String accessToken,
+        String tokenType,
+        long expiresIn
+) {}
@@ -0,0 +1,42 @@
+package com.example.phoebe.dto.response;
+
+import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Status and progress of a background bulk action.
+ *
+ * @param totalCount     number of matching articles when the job started (an estimate: the
+ *                       selection may change while the job runs)
+ * @param processedCount articles processed so far, in committed chunks
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkActionJobDto(
+        String id,
+        BulkActionRequestDto.ActionType action,
+        BulkActionRequestDto.FilterType filterType,
+        Status status,
+        Long totalCount,
+        long processedCount,
+        int chunkCount,
+        String submittedBy,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == CANCELLED || this == FAILED;
+        }
+    }
+}
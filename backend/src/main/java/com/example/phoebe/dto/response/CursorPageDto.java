@@ -0,0 +1,13 @@
+package com.example.phoebe.dto.response;
+
+import java.util.List;
+
+/**
+ * Generic DTO for cursor-paginated API responses.
+ * {@code nextCursor} is null when there are no further items.
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {}
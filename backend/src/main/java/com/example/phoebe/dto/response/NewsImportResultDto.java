@@ -0,0 +1,29 @@
+package com.example.phoebe.dto.response;
+
+import java.util.List;
+
+/**
+ * Outcome of an NDJSON news import.
+ *
+ * @param received        non-blank lines read
+ * @param imported        articles written
+ * @param failed          lines rejected (malformed, invalid, unknown term or failed batch)
+ * @param errors          the first rejected lines with their reason
+ * @param errorsTruncated whether more lines failed than are listed in {@code errors}
+ */
+public record NewsImportResultDto(
+        long received,
+        long imported,
+        long failed,
+        List<RecordError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * @param line 1-based line number in the request body
+     */
+    public record RecordError(
+            long line,
+            String message
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single public search result. Only list-view fields are returned; the article itself
+ * is fetched from {@code /api/public/news/{id}}.
+ */
+public record NewsSearchResultDto(
+        Long id,
+        String title,
+        String teaser,
+        LocalDateTime publicationDate,
+        double score
+) {}
@@ -0,0 +1,22 @@
+package com.example.phoebe.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A news article in listing responses. Same fields as {@link NewsDto} except {@code body},
+ * which is only returned by the detail endpoints.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NewsSummaryDto(
+        Long id,
+        String title,
+        String teaser,
+        LocalDateTime publicationDate,
+        boolean published,
+        Long authorId,
+        String authorName,
+        Set<String> termNames
+) {}
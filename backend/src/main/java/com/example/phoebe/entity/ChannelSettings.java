@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -56,6 +57,10 @@ public class ChannelSettings {
     @Column(name = "site_url", length = 255)
     private String siteUrl;
 
+    /** Version for optimistic locking; also polled by other replicas to detect changes. */
+    @Version
+    private Long version;
+
     // Constructors
     public ChannelSettings() {}
 
@@ -132,6 +137,10 @@ public class ChannelSettings {
         this.siteUrl = siteUrl;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return "ChannelSettings{" +
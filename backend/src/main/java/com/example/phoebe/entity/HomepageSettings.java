@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "homepage_settings")
@@ -22,6 +23,10 @@ public class HomepageSettings {
     @Column(nullable = false, unique = true)
     private HomepageMode mode;
 
+    /** Version for optimistic locking; also polled by other replicas to detect changes. */
+    @Version
+    private Long version;
+
     // Constructors
     public HomepageSettings() {
     }
@@ -37,6 +42,9 @@ public class HomepageSettings {
     public HomepageMode getMode() {
         return mode;
     }
+    public Long getVersion() {
+        return version;
+    }
 
     // Setters
     public void setId(Integer id) {
@@ -0,0 +1,41 @@
+package com.example.phoebe.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published by every write path that changes public content.
+ * Listeners react after commit: the news-by-id cache, the search and term indexes and the homepage snapshot.
+ *
+ * Notes:
+ * - Every change also invalidates the homepage; homepage-only changes (blocks, mode) have no news IDs.
+ * - {@code broadcast} events are additionally appended to the content change log in the writing
+ *   transaction, so other replicas replay them. Replayed events are not broadcast again.
+ *
+ * @param source    short description of the write path that caused the change (for logging)
+ * @param newsIds   affected news IDs; null means "all news" (too many to list)
+ * @param broadcast whether other replicas still need to hear about this change
+ */
+public record ContentChangeEvent(
+        String source,
+        List<Long> newsIds,
+        boolean broadcast
+) {
+
+    public static ContentChangeEvent news(String source, Collection<Long> newsIds) {
+        return new ContentChangeEvent(source, List.copyOf(newsIds), true);
+    }
+
+    public static ContentChangeEvent homepage(String source) {
+        return new ContentChangeEvent(source, List.of(), true);
+    }
+
+    public boolean allNews() {
+        return newsIds == null;
+    }
+
+    /** Copy of this event for listeners on this node only. */
+    public ContentChangeEvent localOnly() {
+        return new ContentChangeEvent(source, newsIds, false);
+    }
+}
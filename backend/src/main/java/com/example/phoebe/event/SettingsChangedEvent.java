@@ -0,0 +1,13 @@
+package com.example.phoebe.event;
+
+/**
+ * Application event published when a singleton settings row has been written,
+ * so services holding an in-memory copy reload it after commit.
+ *
+ * @param settings which settings changed, one of the constants below
+ */
+public record SettingsChangedEvent(String settings) {
+
+    public static final String CHANNEL = "channel";
+    public static final String HOMEPAGE_MODE = "homepage-mode";
+}
@@ -0,0 +1,14 @@
+package com.example.phoebe.event;
+
+/**
+ * Published when data that authentication depends on changes: a user's password, status or roles,
+ * a deleted user, or a role definition.
+ *
+ * @param username the affected account, or null if any account may be affected
+ */
+public record UserAccountChangedEvent(String username) {
+
+    public static UserAccountChangedEvent allAccounts() {
+        return new UserAccountChangedEvent(null);
+    }
+}
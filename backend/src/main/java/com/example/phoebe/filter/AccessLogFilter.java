@@ -0,0 +1,62 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.accesslog.AccessLogEntry;
+import com.example.phoebe.accesslog.AccessLogWriter;
+import com.example.phoebe.security.RoleConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records every request (method, path, query, caller role, status, time) into the binary access log
+ * for later replay. Registered right behind the Spring Security chain, so the caller is known and
+ * requests rejected by {@link RateLimitFilter} are recorded as well.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            writer.record(new AccessLogEntry(startMillis, request.getMethod(), request.getRequestURI(),
+                    request.getQueryString(), currentRole(), response.getStatus(),
+                    (System.nanoTime() - startNanos) / 1_000));
+        }
+    }
+
+    static AccessLogEntry.Role currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return AccessLogEntry.Role.ANONYMOUS;
+        }
+        AccessLogEntry.Role role = AccessLogEntry.Role.AUTHENTICATED;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (RoleConstants.ROLE_ADMIN.equals(authority.getAuthority())) {
+                return AccessLogEntry.Role.ADMIN;
+            }
+            if (RoleConstants.ROLE_EDITOR.equals(authority.getAuthority())) {
+                role = AccessLogEntry.Role.EDITOR;
+            }
+        }
+        return role;
+    }
+}
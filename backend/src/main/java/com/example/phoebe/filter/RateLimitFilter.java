@@ -35,8 +35,11 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String ipAddress = getClientIpAddress(request);
         String requestPath = request.getRequestURI();
         
-        Bucket bucket = getBucketForRequest(ipAddress, requestPath);
+        RateLimitConfig.Limit limit = requestPath.startsWith("/api/admin/")
+                ? RateLimitConfig.Limit.ADMIN : RateLimitConfig.Limit.PUBLIC;
+        Bucket bucket = getBucketForRequest(ipAddress, limit);
         ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        rateLimitConfig.recordDecision(limit, probe.isConsumed());
         
         if (probe.isConsumed()) {
             // Add rate limit headers
@@ -50,8 +53,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
     }
 
-    private Bucket getBucketForRequest(String ipAddress, String requestPath) {
-        if (requestPath.startsWith("/api/admin/")) {
+    private Bucket getBucketForRequest(String ipAddress, RateLimitConfig.Limit limit) {
+        if (limit == RateLimitConfig.Limit.ADMIN) {
             return rateLimitConfig.getAdminBucket(ipAddress);
         } else {
             return rateLimitConfig.getPublicBucket(ipAddress);
@@ -0,0 +1,99 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.config.SqlStatsProperties;
+import com.example.phoebe.monitoring.SqlRequestStats;
+import com.example.phoebe.monitoring.SqlStatementRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the SQL statistics of each request (see {@link SqlStatementRecorder}), publishes them as
+ * metrics tagged with method and URI pattern, optionally returns them as response headers, and warns
+ * when one SQL shape runs more often than the configured threshold, which almost always means N+1.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatsFilter(SqlStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = SqlStatementRecorder.start();
+        // Headers must be set before the body is committed, so the body is held back until the end
+        ContentCachingResponseWrapper buffered = properties.responseHeaders()
+                ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatementRecorder.stop();
+            report(request, stats);
+            if (buffered != null) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+                buffered.setHeader(ROWS_HEADER, String.valueOf(stats.rows()));
+                buffered.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos())));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uriPattern(request));
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("Result rows read per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing SQL per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        for (Map.Entry<String, Integer> repeated : stats.repeatedMoreThan(properties.repeatedStatementThresholdOrDefault())) {
+            meterRegistry.counter("http.server.requests.sql.repeated", tags).increment();
+            LOGGER.warn("Possible N+1: {} {} ran the same statement {} times ({} statements in total): {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), stats.statements(),
+                    repeated.getKey());
+        }
+    }
+
+    /**
+     * The matched handler pattern keeps the tag cardinality bounded; unmatched requests share one value.
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String value ? value : "UNKNOWN";
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.phoebe.migration;
+
+import com.example.phoebe.config.Drupal6MigrationProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Resumable Drupal 6 → Phoebe migration that reads a Drupal 6 MySQL schema and loads the application schema.
+ *
+ * Notes:
+ * - Steps run in dependency order (see {@link Drupal6Steps}); a completed step is skipped on the next run.
+ * - Within a step the calling thread only reads the next batch of keys (keyset: {@code key > last}).
+ *   Workers read the rows of a key range, transform them and load them, each batch in its own target transaction.
+ * - At most two batches per worker are in flight, so memory stays bounded however large the dump is.
+ * - The checkpoint advances over gap-free finished batches only. On failure the step stops reading,
+ *   waits for running batches and fails; the next run resumes from the checkpoint.
+ * - Loads skip existing keys, so batches that are repeated after a resume do no harm.
+ * - Source ids are kept, so before the first step the run fails if any of them is already used in the target
+ *   (for example by the Flyway sample rows). Skipping such rows would silently attach Drupal term links,
+ *   CCK values and authorship to unrelated Phoebe rows.
+ */
+public class Drupal6Migration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Drupal6Migration.class);
+    private static final List<String> TABLES_WITH_SOURCE_IDS = List.of("users", "terms", "content");
+    private static final String TARGET_CHECK_STEP = "target-id-check";
+    private static final int REPORTED_COLLISIONS = 10;
+
+    private final Drupal6MigrationProperties properties;
+    private final DataSource targetDataSource;
+    private final JdbcTemplate target;
+    private final TransactionTemplate transactionTemplate;
+
+    public Drupal6Migration(Drupal6MigrationProperties properties, DataSource targetDataSource,
+                            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.targetDataSource = targetDataSource;
+        this.target = new JdbcTemplate(targetDataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void run() {
+        if (properties.sourceUrl() == null || properties.sourceUrl().isBlank()) {
+            throw new IllegalStateException("app.drupal6-migration.source-url is required");
+        }
+        int workers = properties.workersOrDefault();
+        TargetDialect dialect = TargetDialect.detect(targetDataSource);
+        MigrationLoader loader = new MigrationLoader(target, dialect,
+                properties.fastLoadDirectory() == null ? null : Path.of(properties.fastLoadDirectory()));
+        MigrationCheckpoints checkpoints = new MigrationCheckpoints(target);
+        LOGGER.info("Drupal 6 migration started: {} workers, batch size {}, {} loads", workers,
+                properties.batchSizeOrDefault(), loader.usesFastPath() ? "LOAD DATA" : "JDBC batch");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "drupal6-migration-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (HikariDataSource sourceDataSource = createSourceDataSource(workers)) {
+            JdbcTemplate source = new JdbcTemplate(sourceDataSource);
+            checkSourceIdsUnused(source, checkpoints);
+            List<MigrationStep<?>> steps = Drupal6Steps.create(source, properties.passwordHashOrDefault(),
+                    properties.fallbackAuthorIdOrDefault());
+            for (MigrationStep<?> step : steps) {
+                runStep(step, source, loader, checkpoints, pool, workers);
+            }
+            resetIdSequences(dialect);
+            LOGGER.info("Drupal 6 migration finished: {} steps", steps.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Fails if a target row that the migration did not load has the id of a source row, or if the fallback
+     * author does not exist. Runs once, before
+     * anything is loaded; a resumed run skips it, since the rows loaded so far would match their source ids.
+     */
+    private void checkSourceIdsUnused(JdbcTemplate source, MigrationCheckpoints checkpoints) {
+        if (checkpoints.load(TARGET_CHECK_STEP).completed()) {
+            return;
+        }
+        int batchSize = properties.batchSizeOrDefault();
+        List<String> problems = new ArrayList<>();
+        for (String table : TABLES_WITH_SOURCE_IDS) {
+            List<Long> targetIds = target.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+            List<Long> used = new ArrayList<>();
+            for (int from = 0; from < targetIds.size(); from += batchSize) {
+                List<Long> chunk = targetIds.subList(from, Math.min(from + batchSize, targetIds.size()));
+                String placeholders = chunk.stream().map(id -> "?").collect(Collectors.joining(","));
+                used.addAll(source.queryForList(String.format(Drupal6Steps.SOURCE_ID_SQL.get(table), placeholders),
+                        Long.class, chunk.toArray()));
+            }
+            if (!used.isEmpty()) {
+                problems.add(used.size() + " source ids already used in " + table + " (e.g. "
+                        + used.subList(0, Math.min(REPORTED_COLLISIONS, used.size())) + ")");
+            }
+        }
+        long fallbackAuthorId = properties.fallbackAuthorIdOrDefault();
+        if (existingIds("users", List.of(fallbackAuthorId)).isEmpty()) {
+            problems.add("fallback author " + fallbackAuthorId + " missing in users");
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Target is not ready for the Drupal 6 migration: "
+                    + String.join(", ", problems)
+                    + ". Migrate into a target without rows that use Drupal ids; see docs/en/MIGRATION_DRUPAL6.md");
+        }
+        checkpoints.save(TARGET_CHECK_STEP, new MigrationCheckpoints.Checkpoint(0L, 0L, true));
+    }
+
+    private <S> void runStep(MigrationStep<S> step, JdbcTemplate source, MigrationLoader loader,
+                             MigrationCheckpoints checkpoints, ExecutorService pool, int workers) {
+        MigrationCheckpoints.Checkpoint start = checkpoints.load(step.name());
+        if (start.completed()) {
+            LOGGER.info("Step {} already completed ({} rows), skipping", step.name(), start.rowsLoaded());
+            return;
+        }
+        if (start.lastSourceId() > 0) {
+            LOGGER.info("Step {} resuming after source id {}", step.name(), start.lastSourceId());
+        }
+
+        int batchSize = properties.batchSizeOrDefault();
+        MigrationCheckpoints.Frontier frontier = new MigrationCheckpoints.Frontier(start);
+        Semaphore inFlight = new Semaphore(workers * 2);
+        List<Future<?>> batches = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        long lastKey = start.lastSourceId();
+        long sequence = 0;
+        List<Long> keys;
+        do {
+            if (failed.get()) {
+                break;
+            }
+            keys = source.queryForList(step.keySql(), Long.class, lastKey, batchSize);
+            if (keys.isEmpty()) {
+                break;
+            }
+            long firstKey = keys.get(0);
+            long batchLastKey = keys.get(keys.size() - 1);
+            long batchSequence = sequence++;
+            acquire(inFlight);
+            batches.add(pool.submit(() -> {
+                try {
+                    int rows = loadBatch(step, source, loader, firstKey, batchLastKey);
+                    synchronized (frontier) {
+                        MigrationCheckpoints.Checkpoint advanced = frontier.complete(batchSequence, batchLastKey, rows);
+                        if (advanced != null) {
+                            checkpoints.save(step.name(), advanced);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                } finally {
+                    inFlight.release();
+                }
+            }));
+            lastKey = batchLastKey;
+        } while (keys.size() == batchSize);
+
+        awaitAll(step, batches);
+        MigrationCheckpoints.Checkpoint end = frontier.position();
+        checkpoints.save(step.name(), new MigrationCheckpoints.Checkpoint(end.lastSourceId(), end.rowsLoaded(), true));
+        LOGGER.info("Step {} completed: {} rows", step.name(), end.rowsLoaded());
+    }
+
+    private <S> int loadBatch(MigrationStep<S> step, JdbcTemplate source, MigrationLoader loader,
+                              long firstKey, long lastKey) {
+        List<S> rows = source.query(step.rowSql(), step.rowMapper(), firstKey, lastKey);
+        return transactionTemplate.execute(status -> {
+            List<Object[]> transformed = step.transform().apply(rows, this::existingIds);
+            loader.load(step.target(), transformed);
+            return transformed.size();
+        });
+    }
+
+    private Set<Long> existingIds(String table, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        return new HashSet<>(target.queryForList(
+                "SELECT id FROM " + table + " WHERE id IN (" + placeholders + ")", Long.class, ids.toArray()));
+    }
+
+    private void resetIdSequences(TargetDialect dialect) {
+        for (String table : TABLES_WITH_SOURCE_IDS) {
+            String sql = dialect.resetIdSequence(table);
+            if (sql != null) {
+                target.execute(sql);
+            }
+        }
+    }
+
+    private HikariDataSource createSourceDataSource(int workers) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.sourceUrl())
+                .username(properties.sourceUsername())
+                .password(properties.sourcePassword())
+                .build();
+        dataSource.setPoolName("drupal6-source");
+        dataSource.setMaximumPoolSize(workers + 1);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Drupal 6 migration interrupted", e);
+        }
+    }
+
+    private static void awaitAll(MigrationStep<?> step, List<Future<?>> batches) {
+        RuntimeException failure = null;
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Drupal 6 migration interrupted", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Step " + step.name() + " failed; rerun to resume", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
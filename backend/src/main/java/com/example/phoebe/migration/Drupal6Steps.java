@@ -0,0 +1,206 @@
+package com.example.phoebe.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Steps and transforms of the Drupal 6 migration, in dependency order: users and terms, then
+ * articles, then article-term links and CCK fields. Mirrors the archived
+ * {@code migrate_from_drupal6_universal.sql} and {@code migrate_cck_fields.sql} scripts:
+ * source ids are kept, only the current revision of a node is migrated, and all content types
+ * end up in {@code content}. Drupal roles are not migrated; roles are assigned in Phoebe.
+ * Because ids are kept, the target must not already use them (see {@link #SOURCE_ID_SQL}).
+ */
+final class Drupal6Steps {
+
+    static final int MAX_TITLE_LENGTH = 50;
+    static final int MAX_TEASER_LENGTH = 250;
+    static final int MAX_USERNAME_LENGTH = 64;
+    static final int MAX_VOCABULARY_LENGTH = 100;
+    static final int MAX_NAME_LENGTH = 255;
+    static final String CCK_STEP_PREFIX = "cck:";
+
+    /**
+     * Per target table that receives source ids: the source ids among a list of values (placeholders: {@code %s}).
+     */
+    static final Map<String, String> SOURCE_ID_SQL = Map.of(
+            "users", "SELECT uid FROM users WHERE uid IN (%s)",
+            "terms", "SELECT tid FROM term_data WHERE tid IN (%s)",
+            "content", "SELECT nid FROM node WHERE nid IN (%s)");
+
+    private static final String CCK_COLUMNS_SQL =
+            "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.COLUMNS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 'content\\_type\\_%' "
+                    + "AND COLUMN_NAME NOT IN ('nid', 'vid') ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+    private Drupal6Steps() {
+    }
+
+    static List<MigrationStep<?>> create(JdbcTemplate source, String passwordHash, long fallbackAuthorId) {
+        List<MigrationStep<?>> steps = new ArrayList<>();
+        steps.add(new MigrationStep<DrupalUser>("users",
+                "SELECT uid FROM users WHERE uid > ? ORDER BY uid LIMIT ?",
+                "SELECT uid, name, mail, status FROM users WHERE uid BETWEEN ? AND ?",
+                (rs, rowNum) -> new DrupalUser(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getInt(4) == 1),
+                (rows, lookup) -> rows.stream().map(user -> toUser(user, passwordHash)).toList(),
+                TargetTable.USERS));
+        steps.add(new MigrationStep<DrupalTerm>("terms",
+                "SELECT tid FROM term_data WHERE tid > ? ORDER BY tid LIMIT ?",
+                "SELECT td.tid, td.name, v.name FROM term_data td LEFT JOIN vocabulary v ON v.vid = td.vid "
+                        + "WHERE td.tid BETWEEN ? AND ?",
+                (rs, rowNum) -> new DrupalTerm(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                (rows, lookup) -> rows.stream().map(Drupal6Steps::toTerm).toList(),
+                TargetTable.TERMS));
+        steps.add(new MigrationStep<DrupalNode>("content",
+                "SELECT nid FROM node WHERE nid > ? ORDER BY nid LIMIT ?",
+                "SELECT n.nid, n.uid, n.title, n.status, n.created, n.changed, nr.body, nr.teaser "
+                        + "FROM node n LEFT JOIN node_revisions nr ON nr.vid = n.vid WHERE n.nid BETWEEN ? AND ?",
+                (rs, rowNum) -> new DrupalNode(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4) == 1,
+                        rs.getLong(5), rs.getLong(6), rs.getString(7), rs.getString(8)),
+                (rows, lookup) -> toContent(rows, lookup, fallbackAuthorId),
+                TargetTable.CONTENT));
+        steps.add(new MigrationStep<DrupalTermLink>("content_terms",
+                "SELECT nid FROM node WHERE nid > ? ORDER BY nid LIMIT ?",
+                "SELECT tn.nid, tn.tid FROM term_node tn JOIN node n ON n.vid = tn.vid WHERE n.nid BETWEEN ? AND ?",
+                (rs, rowNum) -> new DrupalTermLink(rs.getLong(1), rs.getLong(2)),
+                Drupal6Steps::toContentTerms,
+                TargetTable.CONTENT_TERMS));
+        findCckColumns(source).forEach((table, columns) -> steps.add(cckStep(table, columns)));
+        return steps;
+    }
+
+    /**
+     * CCK columns per {@code content_type_*} table of the source schema.
+     */
+    private static Map<String, List<String>> findCckColumns(JdbcTemplate source) {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        source.query(CCK_COLUMNS_SQL, (ResultSet rs) -> {
+            columns.computeIfAbsent(rs.getString(1), table -> new ArrayList<>()).add(rs.getString(2));
+        });
+        return columns;
+    }
+
+    private static MigrationStep<CckRow> cckStep(String table, List<String> columns) {
+        String from = " FROM " + quote(table) + " t JOIN node n ON n.vid = t.vid";
+        String selectColumns = columns.stream().map(column -> "t." + quote(column)).collect(Collectors.joining(", "));
+        return new MigrationStep<>(CCK_STEP_PREFIX + table,
+                "SELECT t.nid" + from + " WHERE t.nid > ? ORDER BY t.nid LIMIT ?",
+                "SELECT t.nid, " + selectColumns + from + " WHERE t.nid BETWEEN ? AND ?",
+                (rs, rowNum) -> readCckRow(rs, columns),
+                Drupal6Steps::toCustomFields,
+                TargetTable.CUSTOM_FIELDS);
+    }
+
+    private static CckRow readCckRow(ResultSet rs, List<String> columns) throws SQLException {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            values.put(columns.get(i), rs.getString(i + 2));
+        }
+        return new CckRow(rs.getLong(1), values);
+    }
+
+    static Object[] toUser(DrupalUser user, String passwordHash) {
+        String email = user.mail() == null || user.mail().isBlank()
+                ? "user" + user.uid() + "@migrated.local"
+                : user.mail().trim();
+        return new Object[] {user.uid(), truncate(user.name(), MAX_USERNAME_LENGTH), email, passwordHash, user.active()};
+    }
+
+    static Object[] toTerm(DrupalTerm term) {
+        return new Object[] {term.tid(), truncate(term.name(), MAX_NAME_LENGTH),
+                truncate(term.vocabulary(), MAX_VOCABULARY_LENGTH)};
+    }
+
+    /**
+     * Articles of authors that were not migrated (anonymous, or skipped as duplicates) go to the fallback author.
+     */
+    static List<Object[]> toContent(List<DrupalNode> nodes, TargetLookup lookup, long fallbackAuthorId) {
+        Set<Long> authors = lookup.existingIds("users",
+                nodes.stream().map(DrupalNode::uid).collect(Collectors.toSet()));
+        return nodes.stream()
+                .map(node -> new Object[] {
+                        node.nid(),
+                        truncate(node.title(), MAX_TITLE_LENGTH),
+                        node.body(),
+                        truncate(node.teaser(), MAX_TEASER_LENGTH),
+                        toTimestamp(node.created()),
+                        node.published(),
+                        toTimestamp(node.created()),
+                        toTimestamp(node.changed()),
+                        0L,
+                        authors.contains(node.uid()) ? node.uid() : fallbackAuthorId})
+                .toList();
+    }
+
+    /**
+     * Drops links to articles or terms that are not in the target, which the foreign keys would reject.
+     */
+    static List<Object[]> toContentTerms(List<DrupalTermLink> links, TargetLookup lookup) {
+        if (links.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> content = lookup.existingIds("content",
+                links.stream().map(DrupalTermLink::nid).collect(Collectors.toSet()));
+        Set<Long> terms = lookup.existingIds("terms",
+                links.stream().map(DrupalTermLink::tid).collect(Collectors.toSet()));
+        return links.stream()
+                .filter(link -> content.contains(link.nid()) && terms.contains(link.tid()))
+                .map(link -> new Object[] {link.nid(), link.tid()})
+                .toList();
+    }
+
+    /**
+     * One key/value row per non-null CCK column of an article.
+     */
+    static List<Object[]> toCustomFields(List<CckRow> rows, TargetLookup lookup) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> content = lookup.existingIds("content", rows.stream().map(CckRow::nid).collect(Collectors.toSet()));
+        List<Object[]> fields = new ArrayList<>();
+        for (CckRow row : rows) {
+            if (!content.contains(row.nid())) {
+                continue;
+            }
+            row.values().forEach((name, value) -> {
+                if (value != null) {
+                    fields.add(new Object[] {row.nid(), name, value});
+                }
+            });
+        }
+        return fields;
+    }
+
+    private static Timestamp toTimestamp(long epochSeconds) {
+        return Timestamp.from(Instant.ofEpochSecond(epochSeconds));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static String quote(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    record DrupalUser(long uid, String name, String mail, boolean active) {}
+
+    record DrupalTerm(long tid, String name, String vocabulary) {}
+
+    record DrupalNode(long nid, long uid, String title, boolean published, long created, long changed,
+                      String body, String teaser) {}
+
+    record DrupalTermLink(long nid, long tid) {}
+
+    record CckRow(long nid, Map<String, String> values) {}
+}
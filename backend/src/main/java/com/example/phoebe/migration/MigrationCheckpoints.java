@@ -0,0 +1,85 @@
+package com.example.phoebe.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Per-step progress in the {@code migration_checkpoint} table.
+ *
+ * Batches of a step finish out of order on parallel workers. The stored position only advances
+ * over batches that finished without a gap, so after a crash a step resumes behind every batch that
+ * may be missing; batches that had already committed are loaded again and skipped as duplicates.
+ */
+class MigrationCheckpoints {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MigrationCheckpoints(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Checkpoint load(String step) {
+        List<Checkpoint> rows = jdbcTemplate.query(
+                "SELECT last_source_id, rows_loaded, completed FROM migration_checkpoint WHERE step = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getLong(1), rs.getLong(2), rs.getBoolean(3)),
+                step);
+        return rows.isEmpty() ? Checkpoint.START : rows.get(0);
+    }
+
+    void save(String step, Checkpoint checkpoint) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE migration_checkpoint SET last_source_id = ?, rows_loaded = ?, completed = ?, updated_at = ? "
+                        + "WHERE step = ?",
+                checkpoint.lastSourceId(), checkpoint.rowsLoaded(), checkpoint.completed(), now, step);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO migration_checkpoint (step, last_source_id, rows_loaded, completed, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?)",
+                    step, checkpoint.lastSourceId(), checkpoint.rowsLoaded(), checkpoint.completed(), now);
+        }
+    }
+
+    /**
+     * @param lastSourceId highest source key of the step that is known to be loaded
+     */
+    record Checkpoint(long lastSourceId, long rowsLoaded, boolean completed) {
+
+        static final Checkpoint START = new Checkpoint(0L, 0L, false);
+    }
+
+    /**
+     * Tracks batches of one step by sequence number and reports the furthest gap-free position.
+     */
+    static final class Frontier {
+        private final TreeMap<Long, Checkpoint> finished = new TreeMap<>();
+        private long nextSequence;
+        private Checkpoint position;
+
+        Frontier(Checkpoint start) {
+            this.position = start;
+        }
+
+        /**
+         * Records a finished batch. Returns the new position if it advanced, otherwise null.
+         */
+        synchronized Checkpoint complete(long sequence, long lastSourceId, long rows) {
+            finished.put(sequence, new Checkpoint(lastSourceId, rows, false));
+            Checkpoint advanced = null;
+            while (finished.containsKey(nextSequence)) {
+                Checkpoint batch = finished.remove(nextSequence++);
+                position = new Checkpoint(batch.lastSourceId(), position.rowsLoaded() + batch.rowsLoaded(), false);
+                advanced = position;
+            }
+            return advanced;
+        }
+
+        synchronized Checkpoint position() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.phoebe.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes transformed rows into a target table, skipping rows whose key already exists.
+ *
+ * Notes:
+ * - Default path: one JDBC batch per call ({@code INSERT IGNORE} / {@code ON CONFLICT DO NOTHING}).
+ * - MySQL fast path: with a fast-load directory the rows are written to a tab-separated file there and
+ *   read with {@code LOAD DATA LOCAL INFILE ... IGNORE}, which skips per-row statement overhead.
+ * - PostgreSQL {@code COPY FROM STDIN} needs the driver's CopyManager API, which is not on the classpath,
+ *   so PostgreSQL targets always use JDBC batches (add {@code reWriteBatchedInserts=true} to the URL).
+ * - Callers own the transaction.
+ */
+class MigrationLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MigrationLoader.class);
+    private static final String NULL_FIELD = "\\N";
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TargetDialect dialect;
+    private final Path fastLoadDirectory;
+
+    MigrationLoader(JdbcTemplate jdbcTemplate, TargetDialect dialect, Path fastLoadDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.fastLoadDirectory = dialect == TargetDialect.MYSQL ? fastLoadDirectory : null;
+    }
+
+    boolean usesFastPath() {
+        return fastLoadDirectory != null;
+    }
+
+    void load(TargetTable table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (fastLoadDirectory != null) {
+            loadData(table, rows);
+        } else {
+            jdbcTemplate.batchUpdate(dialect.insertIgnoringDuplicates(table), rows);
+        }
+    }
+
+    private void loadData(TargetTable table, List<Object[]> rows) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(fastLoadDirectory, table.name() + "-", ".tsv");
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        if (i > 0) {
+                            writer.write('\t');
+                        }
+                        writer.write(toTsvField(row[i]));
+                    }
+                    writer.write('\n');
+                }
+            }
+            jdbcTemplate.execute("LOAD DATA LOCAL INFILE '" + escapePath(file) + "' IGNORE INTO TABLE " + table.name()
+                    + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n'"
+                    + " (" + table.columnList() + ")");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write load file for " + table.name(), e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Encodes a value for {@code LOAD DATA} with its default escaping ({@code \N} is NULL).
+     */
+    static String toTsvField(Object value) {
+        if (value == null) {
+            return NULL_FIELD;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? "1" : "0";
+        }
+        if (value instanceof Timestamp timestamp) {
+            return DATE_TIME.format(timestamp.toLocalDateTime());
+        }
+        String text = value.toString();
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\0' -> escaped.append("\\0");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String escapePath(Path file) {
+        return file.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete load file {}: {}", file, e.getMessage());
+        }
+    }
+}
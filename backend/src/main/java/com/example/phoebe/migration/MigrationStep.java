@@ -0,0 +1,31 @@
+package com.example.phoebe.migration;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+/**
+ * One resumable unit of the migration: a source table walked by ascending numeric key.
+ *
+ * @param name      checkpoint key, unique per step
+ * @param keySql    next batch of keys; parameters: last loaded key, batch size
+ * @param rowSql    source rows of a key range; parameters: first and last key of the batch (inclusive)
+ * @param rowMapper maps one source row
+ * @param transform turns the source rows of a batch into target rows; may look up the target
+ * @param target    table the transformed rows are loaded into
+ * @param <S>       source row type
+ */
+record MigrationStep<S>(
+        String name,
+        String keySql,
+        String rowSql,
+        RowMapper<S> rowMapper,
+        BatchTransform<S> transform,
+        TargetTable target
+) {
+
+    @FunctionalInterface
+    interface BatchTransform<S> {
+        List<Object[]> apply(List<S> rows, TargetLookup lookup);
+    }
+}
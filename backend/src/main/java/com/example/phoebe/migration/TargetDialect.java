@@ -0,0 +1,67 @@
+package com.example.phoebe.migration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * SQL that differs between the supported target databases.
+ * Inserts skip rows whose key already exists, so re-loading a batch after a resume is harmless.
+ */
+enum TargetDialect {
+
+    MYSQL {
+        @Override
+        String insertIgnoringDuplicates(TargetTable table) {
+            return "INSERT IGNORE INTO " + table.name() + " (" + table.columnList() + ") VALUES (" + placeholders(table) + ")";
+        }
+
+        @Override
+        String resetIdSequence(String table) {
+            // AUTO_INCREMENT follows explicitly inserted ids on its own
+            return null;
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        String insertIgnoringDuplicates(TargetTable table) {
+            return "INSERT INTO " + table.name() + " (" + table.columnList() + ") VALUES (" + placeholders(table)
+                    + ") ON CONFLICT DO NOTHING";
+        }
+
+        @Override
+        String resetIdSequence(String table) {
+            return "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), COALESCE(MAX(id), 1)) FROM " + table;
+        }
+    };
+
+    abstract String insertIgnoringDuplicates(TargetTable table);
+
+    /**
+     * Statement that moves the id sequence of {@code table} past explicitly inserted ids, or null if not needed.
+     */
+    abstract String resetIdSequence(String table);
+
+    static TargetDialect detect(DataSource dataSource) {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot determine target database type for the migration", e);
+        }
+        if (product.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return MYSQL;
+        }
+        throw new IllegalStateException("The Drupal 6 migration supports MySQL and PostgreSQL targets, not " + product);
+    }
+
+    private static String placeholders(TargetTable table) {
+        return String.join(", ", Collections.nCopies(table.columns().size(), "?"));
+    }
+}
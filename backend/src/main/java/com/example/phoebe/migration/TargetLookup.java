@@ -0,0 +1,16 @@
+package com.example.phoebe.migration;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Read access to the target database for transforms that have to check references.
+ */
+@FunctionalInterface
+interface TargetLookup {
+
+    /**
+     * Returns those of {@code ids} that exist as {@code id} in the given target table.
+     */
+    Set<Long> existingIds(String table, Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.example.phoebe.migration;
+
+import java.util.List;
+
+/**
+ * A table the migration loads into, with the columns every transformed row provides, in order.
+ */
+record TargetTable(String name, List<String> columns) {
+
+    static final TargetTable USERS = new TargetTable("users", List.of("id", "username", "email", "password", "active"));
+    static final TargetTable TERMS = new TargetTable("terms", List.of("id", "name", "vocabulary"));
+    static final TargetTable CONTENT = new TargetTable("content", List.of("id", "title", "body", "teaser",
+            "publication_date", "published", "created_at", "updated_at", "version", "author_id"));
+    static final TargetTable CONTENT_TERMS = new TargetTable("content_terms", List.of("content_id", "term_id"));
+    static final TargetTable CUSTOM_FIELDS = new TargetTable("custom_fields",
+            List.of("content_id", "field_name", "field_value"));
+
+    String columnList() {
+        return String.join(", ", columns);
+    }
+}
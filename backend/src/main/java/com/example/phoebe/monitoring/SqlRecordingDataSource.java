@@ -0,0 +1,121 @@
+package com.example.phoebe.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource that records statements, rows read and JDBC time into the {@link SqlRequestStats}
+ * of the calling thread.
+ *
+ * Notes:
+ * - Only connections obtained while the thread is recording are wrapped; everything else
+ *   (Flyway, background jobs, the rate-limit backend) gets the pool's connection untouched.
+ * - Covers Hibernate and JdbcTemplate alike, since both go through this DataSource.
+ * - A batch counts as one statement; rows are counted as the result set is read.
+ */
+public class SqlRecordingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        if (SqlStatementRecorder.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlRecordingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object wrapResultSet(Object result) {
+        return result instanceof ResultSet resultSet ? proxy(ResultSet.class, new ResultSetHandler(resultSet)) : result;
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlRecordingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // prepareStatement/prepareCall carry the SQL; createStatement gets it on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String sql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                long started = System.nanoTime();
+                try {
+                    return wrapResultSet(SqlRecordingDataSource.invoke(target, method, args));
+                } finally {
+                    SqlRequestStats stats = SqlStatementRecorder.current();
+                    if (stats != null) {
+                        String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                        stats.statementExecuted(SqlShapes.shapeOf(executed), System.nanoTime() - started);
+                    }
+                }
+            }
+            if ("getResultSet".equals(name)) {
+                return wrapResultSet(SqlRecordingDataSource.invoke(target, method, args));
+            }
+            return SqlRecordingDataSource.invoke(target, method, args);
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlRecordingDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlRequestStats stats = SqlStatementRecorder.current();
+                if (stats != null) {
+                    stats.rowRead();
+                }
+            }
+            return result;
+        }
+    }
+}
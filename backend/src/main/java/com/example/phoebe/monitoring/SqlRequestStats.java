@@ -0,0 +1,53 @@
+package com.example.phoebe.monitoring;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statistics of one HTTP request: statements executed, rows read, time spent in JDBC calls and
+ * statements per SQL shape (see {@link SqlShapes}).
+ *
+ * Not thread-safe: an instance is only written by the request thread it is bound to
+ * (see {@link SqlStatementRecorder}).
+ */
+public final class SqlRequestStats {
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> statementsByShape = new HashMap<>();
+
+    void statementExecuted(String shape, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        statementsByShape.merge(shape, 1, Integer::sum);
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * SQL shapes executed more than {@code threshold} times, most repeated first.
+     */
+    public List<Map.Entry<String, Integer>> repeatedMoreThan(int threshold) {
+        return statementsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.phoebe.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to its shape, so that statements differing only in literals or in the length of
+ * {@code IN} lists count as the same statement:
+ * {@code select ... where id in (1, 2, 3) and title = 'a'} becomes {@code select ... where id in (?) and title = ?}.
+ */
+public final class SqlShapes {
+
+    static final int MAX_SHAPE_LENGTH = 500;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Statements come from a small set of Hibernate and JdbcTemplate strings; normalize each only once
+    private static final Cache<String, String> SHAPES = Caffeine.newBuilder().maximumSize(2_000).build();
+
+    private SqlShapes() {
+    }
+
+    public static String shapeOf(String sql) {
+        if (sql == null) {
+            return "(statement batch)";
+        }
+        return SHAPES.get(sql, SqlShapes::normalize);
+    }
+
+    static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.phoebe.monitoring;
+
+/**
+ * Binds {@link SqlRequestStats} to the current request thread. JDBC work on other threads
+ * (background jobs, index builds, async listeners) is not attributed to any request.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * Starts recording on the current thread and returns the statistics being collected.
+     */
+    public static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * The statistics of the current thread, or {@code null} if it is not recording.
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+}
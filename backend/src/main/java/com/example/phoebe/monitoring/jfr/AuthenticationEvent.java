@@ -0,0 +1,23 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Username/password verification that missed the authentication cache, i.e. a user lookup and a BCrypt
+ * comparison. The user name is not recorded.
+ */
+@Name("phoebe.Authentication")
+@Label("Password Authentication")
+@Category({"Phoebe", "Security"})
+@Description("Credential check through the database and BCrypt (authentication cache miss)")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Success")
+    public boolean success;
+}
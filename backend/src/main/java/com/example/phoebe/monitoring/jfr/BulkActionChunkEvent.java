@@ -0,0 +1,29 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One chunk of a bulk action job: its update transaction and change event.
+ */
+@Name("phoebe.BulkActionChunk")
+@Label("Bulk Action Chunk")
+@Category({"Phoebe", "Bulk Actions"})
+@StackTrace(false)
+public class BulkActionChunkEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Chunk")
+    public int chunk;
+
+    @Label("Articles")
+    public int articles;
+}
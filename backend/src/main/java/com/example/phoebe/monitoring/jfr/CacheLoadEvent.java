@@ -0,0 +1,29 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Loading of one cache entry: a miss in a {@code @Cacheable(sync = true)} method, or a background refresh.
+ */
+@Name("phoebe.CacheLoad")
+@Label("Cache Load")
+@Category({"Phoebe", "Cache"})
+@StackTrace(false)
+public class CacheLoadEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Kind")
+    @Description("miss or refresh")
+    public String kind;
+
+    @Label("Found")
+    @Description("False when the loader returned null or failed")
+    public boolean found;
+}
@@ -0,0 +1,34 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Assembly of one homepage block. The news of all blocks come from one query, recorded with
+ * {@code blockId} 0 and the number of news blocks in {@code requested}.
+ */
+@Name("phoebe.HomepageBlockLoad")
+@Label("Homepage Block Load")
+@Category({"Phoebe", "Homepage"})
+@Description("Loading of homepage block content")
+@StackTrace(false)
+public class HomepageBlockLoadEvent extends Event {
+
+    @Label("Block Id")
+    public int blockId;
+
+    @Label("Block Type")
+    public String blockType;
+
+    @Label("Requested")
+    @Description("News count configured on the block, or number of blocks for the combined query")
+    public int requested;
+
+    @Label("Loaded")
+    @Description("News items delivered, or rows read by the combined query")
+    public int loaded;
+}
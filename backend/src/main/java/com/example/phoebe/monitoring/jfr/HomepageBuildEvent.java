@@ -0,0 +1,31 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One rebuild of the public homepage snapshot: rendering, serialization and hashing.
+ */
+@Name("phoebe.HomepageBuild")
+@Label("Homepage Build")
+@Category({"Phoebe", "Homepage"})
+@Description("Rebuild of the pre-serialized public homepage snapshot")
+@StackTrace(false)
+public class HomepageBuildEvent extends Event {
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Changed")
+    @Description("False when the rendered content equals the current snapshot")
+    public boolean changed;
+
+    @Label("Snapshot Version")
+    public long version;
+}
@@ -0,0 +1,89 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code GET /actuator/jfr?seconds=30&settings=profile} records a Java Flight Recording of this node for the
+ * given time and returns the {@code .jfr} file.
+ *
+ * Notes:
+ * - {@code settings} names a JDK configuration: {@code default} (about 1% overhead, always-on safe) or
+ *   {@code profile} (more frequent CPU and allocation sampling, about 2%). The phoebe.* events are
+ *   included in both.
+ * - One recording at a time; a second request gets 429 while one is running.
+ * - The request blocks for the duration, which is capped by {@code app.jfr.max-duration}.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+    private static final int DEFAULT_SECONDS = 30;
+    private static final String DEFAULT_SETTINGS = "default";
+
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public JfrRecordingEndpoint(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer seconds, @Nullable String settings) {
+        Duration duration = Duration.ofSeconds(seconds == null ? DEFAULT_SECONDS : seconds);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? DEFAULT_SETTINGS : settings);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            return new WebEndpointResponse<>(new ByteArrayResource(record(configuration, duration)));
+        } catch (IOException e) {
+            LOGGER.error("JFR recording failed", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private static byte[] record(Configuration configuration, Duration duration)
+            throws IOException, InterruptedException {
+        Path file = Files.createTempFile("phoebe-", ".jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.setName("phoebe-on-demand");
+            LOGGER.info("Starting {} s JFR recording with '{}' settings", duration.toSeconds(), configuration.getName());
+            recording.start();
+            Thread.sleep(duration.toMillis());
+            recording.stop();
+            recording.dump(file);
+            return Files.readAllBytes(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.phoebe.ratelimit;
+
+/**
+ * Compact, allocation-light key for a rate-limit bucket: the limit scope plus the client
+ * address as a 128-bit value (about 32 bytes per key instead of a concatenated String).
+ *
+ * Notes:
+ * - IPv4 addresses are stored IPv4-mapped ({@code ::ffff:a.b.c.d}), so the same client
+ *   seen as "1.2.3.4" and "::ffff:1.2.3.4" shares one bucket.
+ * - Addresses are parsed by hand; no DNS lookup can ever be triggered by a header value.
+ * - Anything that is not an IP literal (garbage in X-Forwarded-For) is reduced to a
+ *   128-bit hash, so hostile input still maps to a fixed-size key.
+ */
+public record ClientKey(
+        byte scope,
+        byte kind,
+        long hi,
+        long lo
+) {
+
+    public static final byte KIND_IP = 0;
+    public static final byte KIND_HASHED = 1;
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000_FFFF_0000_0000L;
+
+    public static ClientKey of(byte scope, String address) {
+        String value = address == null ? "" : address.trim();
+        long ipv4 = parseIpv4(value, 0, value.length());
+        if (ipv4 >= 0) {
+            return new ClientKey(scope, KIND_IP, 0L, IPV4_MAPPED_PREFIX | ipv4);
+        }
+        if (value.indexOf(':') >= 0) {
+            long[] ipv6 = parseIpv6(value);
+            if (ipv6 != null) {
+                return new ClientKey(scope, KIND_IP, ipv6[0], ipv6[1]);
+            }
+        }
+        return new ClientKey(scope, KIND_HASHED, hash(value, 0x9E3779B97F4A7C15L), hash(value, 0xC2B2AE3D27D4EB4FL));
+    }
+
+    /**
+     * Short, stable string form used as the primary key of a shared (database) bucket,
+     * e.g. {@code "1.0.0.ffffc0a8010a"}: scope, kind, then the 128-bit value in hex.
+     */
+    public String toStorageKey() {
+        return new StringBuilder(40)
+                .append(scope).append('.')
+                .append(kind).append('.')
+                .append(Long.toHexString(hi)).append('.')
+                .append(Long.toHexString(lo))
+                .toString();
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address in {@code text[from, to)}.
+     *
+     * @return the address as an unsigned 32-bit value, or -1 if the text is not an IPv4 literal
+     */
+    static long parseIpv4(String text, int from, int to) {
+        long result = 0;
+        int octets = 0;
+        int octet = -1;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet < 0 ? c - '0' : octet * 10 + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                result = (result << 8) | octet;
+                octets++;
+                octet = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (octets != 3 || octet < 0) {
+            return -1;
+        }
+        return (result << 8) | octet;
+    }
+
+    /**
+     * Parses an IPv6 literal, with optional brackets, zone id, "::" compression and dotted IPv4 tail.
+     *
+     * @return {hi, lo} or null if the text is not an IPv6 literal
+     */
+    static long[] parseIpv6(String text) {
+        int start = 0;
+        int end = text.length();
+        if (end > 1 && text.charAt(0) == '[' && text.charAt(end - 1) == ']') {
+            start = 1;
+            end--;
+        }
+        int zone = text.indexOf('%', start);
+        if (zone >= 0 && zone < end) {
+            end = zone;
+        }
+
+        int[] groups = new int[8];
+        int count = 0;
+        int compressAt = -1;
+        int i = start;
+        if (end - start >= 2 && text.startsWith("::", start)) {
+            compressAt = 0;
+            i += 2;
+        }
+        while (i < end) {
+            if (count == 8) {
+                return null;
+            }
+            int groupEnd = i;
+            int value = 0;
+            while (groupEnd < end && groupEnd - i < 5) {
+                int digit = Character.digit(text.charAt(groupEnd), 16);
+                if (digit < 0) {
+                    break;
+                }
+                value = (value << 4) | digit;
+                groupEnd++;
+            }
+            if (groupEnd < end && text.charAt(groupEnd) == '.') {
+                // Embedded IPv4 tail occupies the last two groups
+                long ipv4 = parseIpv4(text, i, end);
+                if (ipv4 < 0 || count > 6) {
+                    return null;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xFFFF);
+                i = end;
+                break;
+            }
+            if (groupEnd == i || groupEnd - i > 4) {
+                return null;
+            }
+            groups[count++] = value;
+            i = groupEnd;
+            if (i == end) {
+                break;
+            }
+            if (text.charAt(i) != ':') {
+                return null;
+            }
+            i++;
+            if (i < end && text.charAt(i) == ':') {
+                if (compressAt >= 0) {
+                    return null;
+                }
+                compressAt = count;
+                i++;
+            } else if (i == end) {
+                return null;
+            }
+        }
+
+        if (compressAt >= 0) {
+            if (count == 8) {
+                return null;
+            }
+            int shift = 8 - count;
+            System.arraycopy(groups, compressAt, groups, compressAt + shift, count - compressAt);
+            for (int g = compressAt; g < compressAt + shift; g++) {
+                groups[g] = 0;
+            }
+        } else if (count != 8) {
+            return null;
+        }
+
+        long hi = 0;
+        long lo = 0;
+        for (int g = 0; g < 4; g++) {
+            hi = (hi << 16) | groups[g];
+            lo = (lo << 16) | groups[g + 4];
+        }
+        return new long[]{hi, lo};
+    }
+
+    private static long hash(String value, long seed) {
+        long h = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        // Final avalanche (SplitMix64)
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.phoebe.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.mysql.Bucket4jMySQL;
+import io.github.bucket4j.postgresql.Bucket4jPostgreSQL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend that keeps bucket state in the application database ({@code rate_limit_bucket}),
+ * so every replica draws from the same buckets and a restart does not reset them.
+ *
+ * Notes:
+ * - State changes go through Bucket4j's JDBC proxy manager, which serializes concurrent
+ *   updates of one row with SELECT ... FOR UPDATE.
+ * - Each proxy is wrapped in Bucket4j's delaying optimization: up to {@code maxUnsyncedTokens}
+ *   tokens or {@code maxUnsyncedTimeout} of consumption are served locally and then written
+ *   back in one round trip. The shared limit may therefore be overshot by at most
+ *   maxUnsyncedTokens per replica, so batching is only used for limits at least ten times
+ *   that large; small limits (login attempts) stay exact and pay a round trip per request.
+ * - Rows carry an {@code expires_at} time set to when the bucket would be full again;
+ *   {@link #removeExpired()} deletes them periodically once nobody is using them.
+ */
+public class JdbcRateLimitBackend implements RateLimitBackend, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcRateLimitBackend.class);
+
+    static final String TABLE = "rate_limit_bucket";
+
+    private static final int MIN_CAPACITY_PER_UNSYNCED_TOKEN = 10;
+
+    private final ProxyManager<String> proxyManager;
+    private final long maxUnsyncedTokens;
+    private final Optimization optimization;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JdbcRateLimitBackend(DataSource dataSource, long maxUnsyncedTokens, Duration maxUnsyncedTimeout,
+                                Duration cleanupInterval) {
+        this.proxyManager = createProxyManager(dataSource);
+        this.maxUnsyncedTokens = maxUnsyncedTokens;
+        this.optimization = maxUnsyncedTokens > 0
+                ? Optimizations.delaying(new DelayParameters(maxUnsyncedTokens, maxUnsyncedTimeout))
+                : null;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        long intervalMillis = cleanupInterval.toMillis();
+        cleanupExecutor.scheduleWithFixedDelay(this::removeExpiredQuietly, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Bucket createBucket(ClientKey key, BucketConfiguration configuration) {
+        if (!allowsBatching(configuration, maxUnsyncedTokens)) {
+            return proxyManager.builder().build(key.toStorageKey(), () -> configuration);
+        }
+        return proxyManager.builder()
+                .withOptimization(optimization)
+                .build(key.toStorageKey(), () -> configuration);
+    }
+
+    static boolean allowsBatching(BucketConfiguration configuration, long maxUnsyncedTokens) {
+        if (maxUnsyncedTokens <= 0) {
+            return false;
+        }
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            if (bandwidth.getCapacity() < maxUnsyncedTokens * MIN_CAPACITY_PER_UNSYNCED_TOKEN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes rows whose buckets have fully refilled; such buckets are indistinguishable from new ones.
+     *
+     * @return number of deleted rows
+     */
+    public int removeExpired() {
+        int removed = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE expires_at < ?", System.currentTimeMillis());
+        if (removed > 0) {
+            LOGGER.debug("Removed {} expired rate-limit buckets", removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void close() {
+        cleanupExecutor.shutdownNow();
+    }
+
+    private void removeExpiredQuietly() {
+        try {
+            removeExpired();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to remove expired rate-limit buckets: {}", e.getMessage());
+        }
+    }
+
+    private static ProxyManager<String> createProxyManager(DataSource dataSource) {
+        ExpirationAfterWriteStrategy expiration =
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ZERO);
+        String product = databaseProductName(dataSource);
+        if (product.contains("postgres")) {
+            return Bucket4jPostgreSQL.selectForUpdateBasedBuilder(dataSource)
+                    .table(TABLE)
+                    .idColumn("id")
+                    .stateColumn("state")
+                    .expiresAtColumn("expires_at")
+                    .expirationAfterWrite(expiration)
+                    .primaryKeyMapper(PrimaryKeyMapper.STRING)
+                    .build();
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return Bucket4jMySQL.selectForUpdateBasedBuilder(dataSource)
+                    .table(TABLE)
+                    .idColumn("id")
+                    .stateColumn("state")
+                    .expiresAtColumn("expires_at")
+                    .expirationAfterWrite(expiration)
+                    .primaryKeyMapper(PrimaryKeyMapper.STRING)
+                    .build();
+        }
+        throw new IllegalStateException("JDBC rate limiting supports MySQL and PostgreSQL, not " + product);
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot determine database type for rate limiting", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.phoebe.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+
+/**
+ * Default backend: buckets live only in this JVM, so each replica enforces its own limit.
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    @Override
+    public Bucket createBucket(ClientKey key, BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.phoebe.ratelimit;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Creates the bucket that enforces a limit for one client key.
+ * The returned bucket is cached in {@link RateLimitBucketStore}, so this is called once per key
+ * while the key stays active.
+ */
+public interface RateLimitBackend {
+
+    Bucket createBucket(ClientKey key, BucketConfiguration configuration);
+}
@@ -0,0 +1,46 @@
+package com.example.phoebe.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring store of rate-limit buckets.
+ *
+ * Notes:
+ * - Memory is capped by {@code maxSize}; under a flood of distinct clients the least
+ *   valuable entries are evicted (Caffeine's W-TinyLFU) instead of growing until OOM.
+ * - Buckets idle longer than {@code idleTimeout} are dropped. As long as the timeout is at
+ *   least the longest refill period, an evicted bucket would have been full anyway, so
+ *   eviction never loosens a limit that is still in effect.
+ */
+public class RateLimitBucketStore {
+
+    private final Cache<ClientKey, Bucket> buckets;
+
+    public RateLimitBucketStore(long maxSize, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTimeout)
+                // Run eviction on the calling thread: bounded work per call, no background pool needed
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public Bucket getOrCreate(ClientKey key, Function<ClientKey, Bucket> factory) {
+        return buckets.get(key, factory);
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    public long evictionCount() {
+        return buckets.stats().evictionCount();
+    }
+}
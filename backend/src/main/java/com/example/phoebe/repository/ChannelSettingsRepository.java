@@ -20,4 +20,11 @@ public interface ChannelSettingsRepository extends JpaRepository<ChannelSettings
      */
     @Query("SELECT cs FROM ChannelSettings cs ORDER BY cs.id ASC LIMIT 1")
     Optional<ChannelSettings> findSingletonSettings();
+
+    /**
+     * Get the version of the singleton settings row; a cheap change check for in-memory copies.
+     * @return Optional containing the version if the settings exist
+     */
+    @Query("SELECT cs.version FROM ChannelSettings cs ORDER BY cs.id ASC LIMIT 1")
+    Optional<Long> findSingletonVersion();
 }
\ No newline at end of file
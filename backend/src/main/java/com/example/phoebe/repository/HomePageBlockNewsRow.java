@@ -0,0 +1,16 @@
+package com.example.phoebe.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat row returned by the batched homepage block query: one published news item
+ * together with the id of the NEWS_BLOCK it was selected for.
+ */
+public record HomePageBlockNewsRow(
+        Integer blockId,
+        Long newsId,
+        String title,
+        String teaser,
+        LocalDateTime publicationDate
+) {
+}
@@ -5,5 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface HomePageBlockRepository extends JpaRepository<HomePageBlock, Integer> {
+public interface HomePageBlockRepository extends JpaRepository<HomePageBlock, Integer>, HomePageBlockRepositoryCustom {
 }
@@ -0,0 +1,20 @@
+package com.example.phoebe.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom queries for {@link HomePageBlockRepository} that cannot be expressed as derived or JPQL queries.
+ */
+public interface HomePageBlockRepositoryCustom {
+
+    /**
+     * Loads the latest published news for every given block in a single statement.
+     * Each block receives at most its own {@code news_count} items, newest first;
+     * a news item matching several terms of the same block is returned once for that block.
+     *
+     * @param blockIds ids of NEWS_BLOCK blocks; an empty collection yields an empty result
+     * @return rows ordered by block id, then by publication date descending
+     */
+    List<HomePageBlockNewsRow> findLatestPublishedNewsForBlocks(Collection<Integer> blockIds);
+}
@@ -0,0 +1,79 @@
+package com.example.phoebe.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native implementation of {@link HomePageBlockRepositoryCustom}.
+ *
+ * Notes:
+ * - The per-block limit is applied in the database with ROW_NUMBER() partitioned by block,
+ *   so the number of statements does not depend on the number of blocks.
+ * - The inner DISTINCT collapses news reachable through several terms of the same block.
+ * - Only scalar columns are selected; no entities are hydrated for the homepage.
+ */
+public class HomePageBlockRepositoryCustomImpl implements HomePageBlockRepositoryCustom {
+
+    private static final String LATEST_NEWS_FOR_BLOCKS_SQL =
+            "SELECT ranked.block_id, ranked.id, ranked.title, ranked.teaser, ranked.publication_date " +
+            "FROM (" +
+            "  SELECT bn.block_id, c.id, c.title, c.teaser, c.publication_date, " +
+            "         ROW_NUMBER() OVER (PARTITION BY bn.block_id " +
+            "                            ORDER BY c.publication_date DESC, c.id DESC) AS rn " +
+            "  FROM (" +
+            "    SELECT DISTINCT bt.home_page_block_id AS block_id, ct.content_id " +
+            "    FROM home_page_block_taxonomy_term bt " +
+            "    JOIN content_terms ct ON ct.term_id = bt.taxonomy_term_id " +
+            "    WHERE bt.home_page_block_id IN (:blockIds)" +
+            "  ) bn " +
+            "  JOIN content c ON c.id = bn.content_id " +
+            "  WHERE c.published = TRUE" +
+            ") ranked " +
+            "JOIN home_page_block b ON b.id = ranked.block_id " +
+            "WHERE ranked.rn <= b.news_count " +
+            "ORDER BY ranked.block_id, ranked.rn";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<HomePageBlockNewsRow> findLatestPublishedNewsForBlocks(Collection<Integer> blockIds) {
+        if (blockIds == null || blockIds.isEmpty()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(LATEST_NEWS_FOR_BLOCKS_SQL)
+                .setParameter("blockIds", blockIds)
+                .getResultList();
+
+        List<HomePageBlockNewsRow> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new HomePageBlockNewsRow(
+                    ((Number) row[0]).intValue(),
+                    ((Number) row[1]).longValue(),
+                    (String) row[2],
+                    (String) row[3],
+                    toLocalDateTime(row[4])
+            ));
+        }
+        return result;
+    }
+
+    /** JDBC drivers differ in how DATETIME/TIMESTAMP columns come back from native queries. */
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value == null ? null : LocalDateTime.parse(value.toString().replace(' ', 'T'));
+    }
+}
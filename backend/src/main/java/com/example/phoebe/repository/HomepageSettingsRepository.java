@@ -3,6 +3,7 @@ package com.example.phoebe.repository;
 import com.example.phoebe.entity.HomepageSettings;
 import com.example.phoebe.model.HomepageMode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +11,10 @@ import java.util.Optional;
 @Repository
 public interface HomepageSettingsRepository extends JpaRepository<HomepageSettings, Integer> {
     Optional<HomepageSettings> findByMode(HomepageMode mode);
+
+    @Query("SELECT hs FROM HomepageSettings hs ORDER BY hs.id ASC LIMIT 1")
+    Optional<HomepageSettings> findSingletonSettings();
+
+    @Query("SELECT hs.version FROM HomepageSettings hs ORDER BY hs.id ASC LIMIT 1")
+    Optional<Long> findSingletonVersion();
 }
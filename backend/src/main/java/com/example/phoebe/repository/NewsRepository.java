@@ -1,9 +1,9 @@
 package com.example.phoebe.repository;
 
 import com.example.phoebe.entity.News;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,8 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
  * Repository for managing News entities.
  *
  * Notes:
- * - Queries over ManyToMany (news.terms) use DISTINCT and a dedicated countQuery
- *   to avoid duplicates and incorrect paging.
+ * - Paged queries return IDs only; listing columns (never the body) are fetched for the page's IDs
+ *   afterwards. A collection fetch must never be combined with a Pageable (in-memory paging).
  * - Bulk update is marked as @Modifying with automatic clear and flush to avoid
  *   stale persistence context.
  * - Read-only transaction on the interface optimizes reads and prevents
@@ -32,66 +32,167 @@ public interface NewsRepository extends JpaRepository<News, Long> {
 
     // === Read Operations ===
 
+    /**
+     * Page of news IDs by publication status. Listing pages are loaded in two steps: an ID page,
+     * limited in SQL, then {@link #findSummariesByIdIn} for just those IDs.
+     * Fetching the terms collection in the paged query itself would make Hibernate read every
+     * matching row and paginate in memory.
+     */
+    @Query(
+            value = "SELECT n.id FROM News n WHERE n.published = :published",
+            countQuery = "SELECT COUNT(n) FROM News n WHERE n.published = :published"
+    )
+    Page<Long> findIdPageByPublished(@Param("published") boolean published, Pageable pageable);
+
+    /**
+     * Page of all news IDs (admin listing).
+     */
+    @Query(
+            value = "SELECT n.id FROM News n",
+            countQuery = "SELECT COUNT(n) FROM News n"
+    )
+    Page<Long> findIdPage(Pageable pageable);
+
+    /**
+     * Keyset pagination over published news: first page.
+     * Returns IDs only so the limit is applied in SQL (no collection fetch) and no count query is issued.
+     * Served by idx_news_published_pubdate (InnoDB appends the primary key to secondary indexes).
+     */
+    @Query("SELECT n.id FROM News n WHERE n.published = true " +
+            "ORDER BY n.publicationDate DESC, n.id DESC")
+    List<Long> findFirstPublishedIds(Pageable pageable);
+
+    /**
+     * Keyset pagination over published news: items strictly after the given (publicationDate, id) position.
+     */
+    @Query("SELECT n.id FROM News n WHERE n.published = true " +
+            "AND (n.publicationDate < :publicationDate " +
+            "OR (n.publicationDate = :publicationDate AND n.id < :id)) " +
+            "ORDER BY n.publicationDate DESC, n.id DESC")
+    List<Long> findPublishedIdsAfter(
+            @Param("publicationDate") LocalDateTime publicationDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Loads news with author and terms for a known set of IDs. Result order is unspecified.
+     */
     @EntityGraph(attributePaths = {"author", "terms"})
-    Page<News> findByPublished(boolean published, Pageable pageable);
+    @Query("SELECT n FROM News n WHERE n.id IN :ids")
+    List<News> findAllWithAuthorAndTermsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Listing columns for a known set of IDs. Selects no body and loads no entities. Result order is unspecified.
+     */
+    @Query("SELECT new com.example.phoebe.repository.NewsSummaryRow(" +
+            "n.id, n.title, n.teaser, n.publicationDate, n.published, a.id, a.username) " +
+            "FROM News n JOIN n.author a WHERE n.id IN :ids")
+    List<NewsSummaryRow> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Term names of the given news, one row per (news, term), ordered by name.
+     */
+    @Query("SELECT new com.example.phoebe.repository.NewsTermNameRow(n.id, t.name) " +
+            "FROM News n JOIN n.terms t WHERE n.id IN :ids ORDER BY t.name")
+    List<NewsTermNameRow> findTermNamesByNewsIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Term links of those given news that are published; news without a row are unpublished, gone or untagged.
+     */
+    @Query("SELECT new com.example.phoebe.repository.NewsTermLinkRow(n.id, t.id, n.publicationDate) " +
+            "FROM News n JOIN n.terms t WHERE n.published = true AND n.id IN :ids")
+    List<NewsTermLinkRow> findPublishedTermLinksByNewsIdIn(@Param("ids") List<Long> ids);
 
     @EntityGraph(attributePaths = {"author", "terms"})
     Optional<News> findByIdAndPublished(Long id, boolean published);
 
     /**
-     * Find news by term ID and publication status.
-     * Uses DISTINCT to prevent duplicate rows caused by ManyToMany joins.
+     * Version columns of a published article, for validating cached copies without loading it.
+     */
+    @Query("SELECT new com.example.phoebe.repository.NewsVersionRow(n.id, n.version, n.updatedAt) " +
+            "FROM News n WHERE n.id = :id AND n.published = true")
+    Optional<NewsVersionRow> findPublishedVersionById(@Param("id") Long id);
+
+    /**
+     * Page of news IDs by term and publication status.
+     * EXISTS instead of a join keeps one row per article, so neither DISTINCT nor COUNT(DISTINCT) is needed.
      */
-    @EntityGraph(attributePaths = {"author", "terms"})
     @Query(
             value =
-                    "SELECT DISTINCT n FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id = :termId",
+                    "SELECT n.id FROM News n WHERE n.published = :published AND EXISTS " +
+                            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id = :termId)",
             countQuery =
-                    "SELECT COUNT(DISTINCT n.id) FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id = :termId"
+                    "SELECT COUNT(n) FROM News n WHERE n.published = :published AND EXISTS " +
+                            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id = :termId)"
     )
-    Page<News> findByTermsIdAndPublished(
+    Page<Long> findIdPageByTermIdAndPublished(
             @Param("termId") Long termId,
             @Param("published") boolean published,
             Pageable pageable
     );
 
     /**
-     * Find news by multiple term IDs and publication status.
-     * Uses DISTINCT and a correct count query for stable paging.
+     * Page of news IDs having any of the given terms, by publication status.
      */
-    @EntityGraph(attributePaths = {"author", "terms"})
     @Query(
             value =
-                    "SELECT DISTINCT n FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id IN :termIds",
+                    "SELECT n.id FROM News n WHERE n.published = :published AND EXISTS " +
+                            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id IN :termIds)",
             countQuery =
-                    "SELECT COUNT(DISTINCT n.id) FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id IN :termIds"
+                    "SELECT COUNT(n) FROM News n WHERE n.published = :published AND EXISTS " +
+                            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id IN :termIds)"
     )
-    Page<News> findByTermsIdInAndPublished(
+    Page<Long> findIdPageByTermIdInAndPublished(
             @Param("termIds") List<Long> termIds,
             @Param("published") boolean published,
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"author", "terms"})
-    @Query("SELECT n FROM News n JOIN n.terms t WHERE t.id IN :termIds")
-    List<News> findNewsByTaxonomyTerms(@Param("termIds") Set<Long> termIds, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"author", "terms"})
-    Page<News> findByAuthorId(Long authorId, Pageable pageable);
+    /**
+     * Page of IDs of news created by the given author.
+     */
+    @Query(
+            value = "SELECT n.id FROM News n WHERE n.author.id = :authorId",
+            countQuery = "SELECT COUNT(n) FROM News n WHERE n.author.id = :authorId"
+    )
+    Page<Long> findIdPageByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
 
     boolean existsByIdAndAuthorId(Long id, Long authorId);
 
     // === Bulk Operation Helpers ===
 
     /**
-     * Returns all news IDs. Consider pagination or streaming for large datasets.
+     * Keyset walk over all news IDs in ascending order, one chunk at a time (bulk jobs).
+     */
+    @Query("SELECT n.id FROM News n WHERE n.id > :afterId ORDER BY n.id")
+    List<Long> findIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset walk over IDs of news having the given term.
+     */
+    @Query("SELECT n.id FROM News n WHERE n.id > :afterId AND EXISTS " +
+            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id = :termId) ORDER BY n.id")
+    List<Long> findIdsByTermIdAfterId(@Param("termId") Long termId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset walk over IDs of news created by the given author.
      */
-    @Query("SELECT n.id FROM News n")
-    List<Long> findAllIds();
+    @Query("SELECT n.id FROM News n WHERE n.author.id = :authorId AND n.id > :afterId ORDER BY n.id")
+    List<Long> findIdsByAuthorIdAfterId(@Param("authorId") Long authorId, @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM News n WHERE EXISTS " +
+            "(SELECT t.id FROM News tn JOIN tn.terms t WHERE tn.id = n.id AND t.id = :termId)")
+    long countByTermId(@Param("termId") Long termId);
+
+    long countByAuthorId(Long authorId);
+
+    /**
+     * Walks published news IDs in ascending order, one batch at a time (used to rebuild in-memory indexes).
+     */
+    @Query("SELECT n.id FROM News n WHERE n.published = true AND n.id > :afterId ORDER BY n.id")
+    List<Long> findPublishedIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
 
     /**
      * Returns IDs of news that have the specified term.
@@ -115,4 +216,41 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     @Transactional
     @Query("UPDATE News n SET n.published = false WHERE n.id IN :ids AND n.published = true")
     int unpublishByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Bulk publish by IDs. Returns the number of updated rows.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE News n SET n.published = true WHERE n.id IN :ids AND n.published = false")
+    int publishByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Bumps version and update time, so conditional GET validators change after a bulk edit
+     * that bypasses the entity (term assignment).
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE News n SET n.version = COALESCE(n.version, 0) + 1, n.updatedAt = :now WHERE n.id IN :ids")
+    int touchByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Adds a term to the given news, skipping those that already have it.
+     * Returns the number of inserted links.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query(value = "INSERT INTO content_terms (content_id, term_id) " +
+            "SELECT c.id, :termId FROM content c WHERE c.id IN (:ids) AND NOT EXISTS " +
+            "(SELECT 1 FROM content_terms ct WHERE ct.content_id = c.id AND ct.term_id = :termId)",
+            nativeQuery = true)
+    int assignTermToIds(@Param("termId") Long termId, @Param("ids") List<Long> ids);
+
+    /**
+     * Removes a term from the given news. Returns the number of deleted links.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query(value = "DELETE FROM content_terms WHERE term_id = :termId AND content_id IN (:ids)", nativeQuery = true)
+    int removeTermFromIds(@Param("termId") Long termId, @Param("ids") List<Long> ids);
 }
\ No newline at end of file
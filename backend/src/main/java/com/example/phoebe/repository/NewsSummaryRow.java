@@ -0,0 +1,16 @@
+package com.example.phoebe.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing columns of one news article, selected without the body or the entity.
+ */
+public record NewsSummaryRow(
+        Long id,
+        String title,
+        String teaser,
+        LocalDateTime publicationDate,
+        boolean published,
+        Long authorId,
+        String authorName
+) {}
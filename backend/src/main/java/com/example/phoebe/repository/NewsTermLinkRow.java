@@ -0,0 +1,12 @@
+package com.example.phoebe.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One term of a published news article, with the article's publication date (term index projection).
+ */
+public record NewsTermLinkRow(
+        Long newsId,
+        Long termId,
+        LocalDateTime publicationDate
+) {}
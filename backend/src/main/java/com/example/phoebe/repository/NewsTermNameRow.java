@@ -0,0 +1,9 @@
+package com.example.phoebe.repository;
+
+/**
+ * Name of one term attached to a news article (listing projection).
+ */
+public record NewsTermNameRow(
+        Long newsId,
+        String termName
+) {}
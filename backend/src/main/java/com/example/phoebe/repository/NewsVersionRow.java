@@ -0,0 +1,12 @@
+package com.example.phoebe.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version columns of one news article, read without loading the entity (conditional GET).
+ */
+public record NewsVersionRow(
+        Long id,
+        Long version,
+        LocalDateTime updatedAt
+) {}
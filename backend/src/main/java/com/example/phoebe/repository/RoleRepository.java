@@ -3,8 +3,10 @@ package com.example.phoebe.repository;
 import com.example.phoebe.entity.Role;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,4 +46,13 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      */
     @EntityGraph(attributePaths = "permissions")
     Set<Role> findByUsersId(Long userId);
+
+    /**
+     * Finds all roles and eagerly fetches their permissions in a single query.
+     *
+     * @return All roles, with permissions initialized.
+     */
+    @EntityGraph(attributePaths = "permissions")
+    @Query("SELECT r FROM Role r ORDER BY r.id")
+    List<Role> findAllWithPermissions();
 }
\ No newline at end of file
@@ -2,8 +2,13 @@ package com.example.phoebe.repository;
 
 import com.example.phoebe.entity.Term;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for managing Term entities in the database.
  * Provides CRUD operations and custom query methods via Spring Data JPA.
@@ -23,6 +28,9 @@ public interface TermRepository extends JpaRepository<Term, Long> {
     // - delete(entity)
     // - findAll(), etc.
 
-    // Custom methods can be added here later, e.g.:
-    // Optional<Term> findByName(String name);
+    /**
+     * Returns which of the given IDs exist, in one query (bulk import term resolution).
+     */
+    @Query("SELECT t.id FROM Term t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.phoebe.search;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Input to {@link NewsSearchIndex}: the searchable fields of one published news article.
+ */
+public record IndexedNews(
+        long id,
+        String title,
+        String teaser,
+        String body,
+        LocalDateTime publicationDate,
+        Set<Long> termIds
+) {}
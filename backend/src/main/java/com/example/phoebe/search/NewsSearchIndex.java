@@ -0,0 +1,237 @@
+package com.example.phoebe.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over published news (title, teaser and body).
+ *
+ * Notes:
+ * - The dictionary is sorted, so the last query token is also matched as a prefix
+ *   (search-as-you-type) with a bounded number of expansions.
+ * - Every query token must match (AND semantics). Each document is ranked by
+ *   the sum of its token scores. A token's score is its field-weighted log term
+ *   frequency multiplied by the token's inverse document frequency.
+ * - Term and date filters are applied to the stored fields of each candidate, so they never touch the database.
+ * - A read-write lock keeps searches consistent while a document is being replaced.
+ */
+public class NewsSearchIndex {
+
+    static final double TITLE_WEIGHT = 3.0;
+    static final double TEASER_WEIGHT = 2.0;
+    static final double BODY_WEIGHT = 1.0;
+
+    /** Upper bound on dictionary entries a trailing prefix may expand to. */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    /** Prefix expansions rank below an exact match of the same token. */
+    static final double PREFIX_MATCH_FACTOR = 0.8;
+
+    private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    private final Map<Long, StoredDocument> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the document or replaces a previously indexed version of it.
+     */
+    public void index(IndexedNews news) {
+        Map<String, Double> weights = new HashMap<>();
+        addField(weights, news.title(), TITLE_WEIGHT);
+        addField(weights, news.teaser(), TEASER_WEIGHT);
+        addField(weights, news.body(), BODY_WEIGHT);
+
+        long[] termIds = news.termIds() == null ? new long[0]
+                : news.termIds().stream().mapToLong(Long::longValue).sorted().toArray();
+        StoredDocument document = new StoredDocument(news.id(), news.title(), news.teaser(),
+                news.publicationDate(), termIds, weights.keySet().toArray(new String[0]));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(news.id());
+            documents.put(news.id(), document);
+            weights.forEach((token, weight) ->
+                    postings.computeIfAbsent(token, key -> new HashMap<>()).put(news.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a ranked query.
+     *
+     * @param query  free text; the last token is matched as a prefix unless the query ends with a separator
+     * @param termId optional taxonomy term the document must have
+     * @param from   optional inclusive lower bound on publication date
+     * @param to     optional exclusive upper bound on publication date
+     * @param offset number of hits to skip
+     * @param limit  maximum number of hits to return
+     */
+    public SearchResult search(String query, Long termId, LocalDateTime from, LocalDateTime to, int offset, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        boolean prefixLast = SearchTokenizer.endsWithPartialToken(query);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = prefixLast && i == tokens.size() - 1;
+                Map<Long, Double> tokenScores = scoreToken(tokens.get(i), prefix);
+                scores = scores == null ? tokenScores : intersect(scores, tokenScores);
+                if (scores.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+
+            List<SearchHit> matches = new ArrayList<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                StoredDocument document = documents.get(entry.getKey());
+                if (document != null && document.matches(termId, from, to)) {
+                    matches.add(new SearchHit(document.id, document.title, document.teaser,
+                            document.publicationDate, entry.getValue()));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::publicationDate, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(Comparator.comparingLong(SearchHit::id).reversed()));
+
+            int fromIndex = Math.min(Math.max(offset, 0), matches.size());
+            int toIndex = Math.min(fromIndex + Math.max(limit, 0), matches.size());
+            return new SearchResult(List.copyOf(matches.subList(fromIndex, toIndex)), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreToken(String token, boolean prefix) {
+        Map<Long, Double> result = new HashMap<>();
+        if (!prefix) {
+            accumulate(result, postings.get(token), 1.0);
+            return result;
+        }
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Double>> entry
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            accumulate(result, entry.getValue(), entry.getKey().equals(token) ? 1.0 : PREFIX_MATCH_FACTOR);
+        }
+        return result;
+    }
+
+    /** For prefix matches a document keeps the score of its best-matching expansion. */
+    private void accumulate(Map<Long, Double> result, Map<Long, Double> posting, double factor) {
+        if (posting == null || posting.isEmpty()) {
+            return;
+        }
+        double idf = Math.log(1.0 + (double) documents.size() / posting.size());
+        posting.forEach((id, weight) -> result.merge(id, weight * idf * factor, Math::max));
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> smaller = left.size() <= right.size() ? left : right;
+        Map<Long, Double> larger = smaller == left ? right : left;
+        Map<Long, Double> result = new HashMap<>();
+        smaller.forEach((id, score) -> {
+            Double other = larger.get(id);
+            if (other != null) {
+                result.put(id, score + other);
+            }
+        });
+        return result;
+    }
+
+    private void removeInternal(long id) {
+        StoredDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens) {
+            Map<Long, Double> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Double> weights, String text, double fieldWeight) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(text)) {
+            counts.merge(token, 1, Integer::sum);
+        }
+        counts.forEach((token, count) -> weights.merge(token, fieldWeight * (1.0 + Math.log(count)), Double::sum));
+    }
+
+    /** Stored fields of an indexed document; tokens are kept so the document can be removed from postings. */
+    private static final class StoredDocument {
+        private final long id;
+        private final String title;
+        private final String teaser;
+        private final LocalDateTime publicationDate;
+        private final long[] termIds;
+        private final String[] tokens;
+
+        private StoredDocument(long id, String title, String teaser, LocalDateTime publicationDate,
+                               long[] termIds, String[] tokens) {
+            this.id = id;
+            this.title = title;
+            this.teaser = teaser;
+            this.publicationDate = publicationDate;
+            this.termIds = termIds;
+            this.tokens = tokens;
+        }
+
+        private boolean matches(Long termId, LocalDateTime from, LocalDateTime to) {
+            if (termId != null && Arrays.binarySearch(termIds, termId) < 0) {
+                return false;
+            }
+            if (from != null && (publicationDate == null || publicationDate.isBefore(from))) {
+                return false;
+            }
+            return to == null || (publicationDate != null && publicationDate.isBefore(to));
+        }
+    }
+}
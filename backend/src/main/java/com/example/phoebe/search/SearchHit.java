@@ -0,0 +1,14 @@
+package com.example.phoebe.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * One ranked search result, carrying the stored fields needed to render a result list.
+ */
+public record SearchHit(
+        long id,
+        String title,
+        String teaser,
+        LocalDateTime publicationDate,
+        double score
+) {}
@@ -0,0 +1,11 @@
+package com.example.phoebe.search;
+
+import java.util.List;
+
+/**
+ * A page of ranked hits plus the total number of matching documents.
+ */
+public record SearchResult(
+        List<SearchHit> hits,
+        int totalHits
+) {}
@@ -0,0 +1,72 @@
+package com.example.phoebe.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lower-case search tokens.
+ *
+ * Notes:
+ * - HTML tags and entities are removed first, since news bodies and teasers are stored as HTML.
+ * - A token is a maximal run of Unicode letters or digits, so Latin and Cyrillic text tokenize alike.
+ * - Single-character and overly long tokens are dropped; they only bloat the dictionary.
+ */
+public final class SearchTokenizer {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&#?[a-zA-Z0-9]+;");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String plain = stripHtml(text);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < plain.length(); ) {
+            int codePoint = plain.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else {
+                flush(current, tokens);
+            }
+            i += Character.charCount(codePoint);
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    /**
+     * Returns true if the query ends inside a word, i.e. the user is probably still typing it.
+     */
+    public static boolean endsWithPartialToken(String query) {
+        if (query == null || query.isEmpty()) {
+            return false;
+        }
+        return Character.isLetterOrDigit(query.codePointBefore(query.length()));
+    }
+
+    static String stripHtml(String text) {
+        if (text.indexOf('<') < 0 && text.indexOf('&') < 0) {
+            return text;
+        }
+        String withoutTags = HTML_TAG.matcher(text).replaceAll(" ");
+        return HTML_ENTITY.matcher(withoutTags).replaceAll(" ");
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        int length = current.length();
+        if (length >= MIN_TOKEN_LENGTH && length <= MAX_TOKEN_LENGTH) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.phoebe.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of published article IDs per term, newest first.
+ *
+ * Notes:
+ * - Each term holds two parallel primitive arrays (publication key, article ID) sorted by
+ *   publication date descending, then ID descending: about 16 bytes per article-term link.
+ * - Arrays are immutable and replaced on every change (copy-on-write), so readers never lock and
+ *   always see a consistent list per term. Writers are serialized.
+ * - Copy-on-write costs a copy of the term's arrays per change, which is fine for incremental updates
+ *   but quadratic for a full build; build a complete index with {@link #builder()} instead.
+ * - Pages and counts of a single term are array slices; several terms are merged on the fly.
+ */
+public class TermPublicationIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, Postings> postingsByTerm = new ConcurrentHashMap<>();
+    /** Indexed state per article, needed to find its entries again. Accessed by writers only. */
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Adds the published article or replaces its previous entries.
+     */
+    public synchronized void put(long newsId, LocalDateTime publicationDate, long[] termIds) {
+        removeInternal(newsId);
+        long key = sortKey(publicationDate);
+        long[] terms = termIds.clone();
+        for (long termId : terms) {
+            postingsByTerm.compute(termId, (id, postings) -> (postings == null ? Postings.EMPTY : postings)
+                    .with(key, newsId));
+        }
+        articles.put(newsId, new IndexedArticle(key, terms));
+    }
+
+    /**
+     * Removes an article, e.g. when it is unpublished or deleted. Unknown IDs are ignored.
+     */
+    public synchronized void remove(long newsId) {
+        removeInternal(newsId);
+    }
+
+    public synchronized int size() {
+        return articles.size();
+    }
+
+    public long count(long termId) {
+        return postings(termId).ids.length;
+    }
+
+    /**
+     * Article IDs of one page of a term, newest first.
+     */
+    public List<Long> page(long termId, long offset, int limit) {
+        return postings(termId).slice(offset, limit);
+    }
+
+    /**
+     * Number of distinct articles tagged with any of the terms.
+     */
+    public long countAny(List<Long> termIds) {
+        return union(termIds).ids.length;
+    }
+
+    /**
+     * One page of the distinct articles tagged with any of the terms, newest first.
+     */
+    public List<Long> pageAny(List<Long> termIds, long offset, int limit) {
+        return union(termIds).slice(offset, limit);
+    }
+
+    private Postings postings(long termId) {
+        return postingsByTerm.getOrDefault(termId, Postings.EMPTY);
+    }
+
+    private Postings union(List<Long> termIds) {
+        Postings result = Postings.EMPTY;
+        for (Long termId : termIds.stream().distinct().toList()) {
+            result = result.merge(postings(termId));
+        }
+        return result;
+    }
+
+    private void removeInternal(long newsId) {
+        IndexedArticle previous = articles.remove(newsId);
+        if (previous == null) {
+            return;
+        }
+        for (long termId : previous.termIds()) {
+            postingsByTerm.computeIfPresent(termId, (id, postings) -> {
+                Postings remaining = postings.without(previous.key(), newsId);
+                return remaining.ids.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    private static long sortKey(LocalDateTime publicationDate) {
+        return publicationDate == null ? Long.MIN_VALUE : publicationDate.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private record IndexedArticle(long key, long[] termIds) {}
+
+    /**
+     * Collects the articles of a full build: links are appended to growable per-term buffers and each term
+     * is sorted once in {@link #build()}, instead of copying its arrays for every article.
+     */
+    public static final class Builder {
+
+        private final Map<Long, LinkBuffer> linksByTerm = new HashMap<>();
+        private final Map<Long, IndexedArticle> articles = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a published article; each article may be added once.
+         */
+        public Builder add(long newsId, LocalDateTime publicationDate, long[] termIds) {
+            long key = sortKey(publicationDate);
+            long[] terms = Arrays.stream(termIds).distinct().toArray();
+            if (articles.putIfAbsent(newsId, new IndexedArticle(key, terms)) != null) {
+                throw new IllegalArgumentException("Article " + newsId + " was already added");
+            }
+            for (long termId : terms) {
+                linksByTerm.computeIfAbsent(termId, id -> new LinkBuffer()).add(key, newsId);
+            }
+            return this;
+        }
+
+        public TermPublicationIndex build() {
+            TermPublicationIndex index = new TermPublicationIndex();
+            linksByTerm.forEach((termId, links) -> index.postingsByTerm.put(termId, links.toPostings()));
+            index.articles.putAll(articles);
+            return index;
+        }
+    }
+
+    /**
+     * Unsorted (key, id) pairs of one term during a build.
+     */
+    private static final class LinkBuffer {
+
+        private long[] keys = new long[8];
+        private long[] ids = new long[8];
+        private int size;
+
+        void add(long key, long id) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            keys[size] = key;
+            ids[size++] = id;
+        }
+
+        Postings toPostings() {
+            long[] sortedKeys = Arrays.copyOf(keys, size);
+            long[] sortedIds = Arrays.copyOf(ids, size);
+            Postings.sort(sortedKeys, sortedIds);
+            return new Postings(sortedKeys, sortedIds);
+        }
+    }
+
+    /**
+     * Immutable (key, id) pairs sorted by key descending, then id descending.
+     */
+    private static final class Postings {
+
+        static final Postings EMPTY = new Postings(TermPublicationIndex.EMPTY, TermPublicationIndex.EMPTY);
+
+        private final long[] keys;
+        private final long[] ids;
+
+        private Postings(long[] keys, long[] ids) {
+            this.keys = keys;
+            this.ids = ids;
+        }
+
+        Postings with(long key, long id) {
+            int position = search(key, id);
+            if (position >= 0) {
+                return this;
+            }
+            int insertAt = -position - 1;
+            long[] newKeys = new long[keys.length + 1];
+            long[] newIds = new long[ids.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            newKeys[insertAt] = key;
+            newIds[insertAt] = id;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            return new Postings(newKeys, newIds);
+        }
+
+        Postings without(long key, long id) {
+            int position = search(key, id);
+            if (position < 0) {
+                return this;
+            }
+            long[] newKeys = new long[keys.length - 1];
+            long[] newIds = new long[ids.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, keys.length - position - 1);
+            System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+            return new Postings(newKeys, newIds);
+        }
+
+        /**
+         * Union without duplicates; an article has the same key in every term, so duplicates are adjacent.
+         */
+        Postings merge(Postings other) {
+            if (other.ids.length == 0) {
+                return this;
+            }
+            if (ids.length == 0) {
+                return other;
+            }
+            long[] mergedKeys = new long[ids.length + other.ids.length];
+            long[] mergedIds = new long[mergedKeys.length];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < ids.length || j < other.ids.length) {
+                int order = i == ids.length ? 1
+                        : j == other.ids.length ? -1
+                        : compare(keys[i], ids[i], other.keys[j], other.ids[j]);
+                if (order <= 0) {
+                    mergedKeys[size] = keys[i];
+                    mergedIds[size++] = ids[i++];
+                    if (order == 0) {
+                        j++;
+                    }
+                } else {
+                    mergedKeys[size] = other.keys[j];
+                    mergedIds[size++] = other.ids[j++];
+                }
+            }
+            return new Postings(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedIds, size));
+        }
+
+        List<Long> slice(long offset, int limit) {
+            if (offset >= ids.length || limit <= 0) {
+                return List.of();
+            }
+            int from = (int) offset;
+            int to = (int) Math.min(ids.length, offset + limit);
+            return Arrays.stream(ids, from, to).boxed().toList();
+        }
+
+        /**
+         * Binary search in descending order; returns the index, or {@code -(insertion point) - 1}.
+         */
+        private int search(long key, long id) {
+            int low = 0;
+            int high = ids.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int order = compare(keys[mid], ids[mid], key, id);
+                if (order < 0) {
+                    low = mid + 1;
+                } else if (order > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Sorts parallel arrays into posting order (bottom-up merge sort, O(n log n)).
+         */
+        static void sort(long[] keys, long[] ids) {
+            int n = keys.length;
+            long[] sourceKeys = keys;
+            long[] sourceIds = ids;
+            long[] targetKeys = new long[n];
+            long[] targetIds = new long[n];
+            for (int width = 1; width < n; width *= 2) {
+                for (int low = 0; low < n; low += 2 * width) {
+                    int mid = Math.min(low + width, n);
+                    int high = Math.min(low + 2 * width, n);
+                    int i = low;
+                    int j = mid;
+                    for (int k = low; k < high; k++) {
+                        if (j == high || i < mid
+                                && compare(sourceKeys[i], sourceIds[i], sourceKeys[j], sourceIds[j]) <= 0) {
+                            targetKeys[k] = sourceKeys[i];
+                            targetIds[k] = sourceIds[i++];
+                        } else {
+                            targetKeys[k] = sourceKeys[j];
+                            targetIds[k] = sourceIds[j++];
+                        }
+                    }
+                }
+                long[] swapKeys = sourceKeys;
+                long[] swapIds = sourceIds;
+                sourceKeys = targetKeys;
+                sourceIds = targetIds;
+                targetKeys = swapKeys;
+                targetIds = swapIds;
+            }
+            if (sourceKeys != keys) {
+                System.arraycopy(sourceKeys, 0, keys, 0, n);
+                System.arraycopy(sourceIds, 0, ids, 0, n);
+            }
+        }
+
+        /**
+         * Negative if (key1, id1) comes first, i.e. is newer.
+         */
+        private static int compare(long key1, long id1, long key2, long id2) {
+            int byKey = Long.compare(key2, key1);
+            return byKey != 0 ? byKey : Long.compare(id2, id1);
+        }
+    }
+}
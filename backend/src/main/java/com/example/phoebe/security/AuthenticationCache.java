@@ -0,0 +1,107 @@
+package com.example.phoebe.security;
+
+import com.example.phoebe.event.UserAccountChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Short-lived cache of successfully verified credentials.
+ *
+ * Notes:
+ * - The key is an HMAC-SHA256 of username and password under a random key generated at startup,
+ *   so neither raw passwords nor reusable hashes are kept in memory, and the key is useless
+ *   outside this JVM.
+ * - Only successful authentications are cached; failed attempts always reach BCrypt.
+ * - Entries are evicted when a {@link UserAccountChangedEvent} is committed; the TTL bounds
+ *   staleness for changes made outside the application (e.g. direct SQL).
+ * - Hit and miss counts are published as the {@code cache.*} metrics with {@code cache=authentication}.
+ *   They carry the same tag keys as the CacheManager caches Spring Boot binds ({@code cache.manager}, {@code name});
+ *   Prometheus rejects a meter whose tag keys differ from an existing meter of the same name.
+ */
+@Component
+public class AuthenticationCache implements MeterBinder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String CACHE_NAME = "authentication";
+
+    private final Cache<String, UserDetails> cache;
+    private final SecretKeySpec keySpec;
+
+    public AuthenticationCache(@Value("${app.security.auth-cache.ttl:60s}") Duration ttl,
+                               @Value("${app.security.auth-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.keySpec = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    public UserDetails get(String username, String password) {
+        return cache.getIfPresent(key(username, password));
+    }
+
+    public void put(String username, String password, UserDetails userDetails) {
+        cache.put(key(username, password), userDetails);
+    }
+
+    public void evict(String username) {
+        cache.asMap().values().removeIf(details -> details.getUsername().equals(username));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME,
+                Tags.of("cache.manager", CACHE_NAME, "name", CACHE_NAME));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (event.username() == null) {
+            evictAll();
+        } else {
+            evict(event.username());
+        }
+    }
+
+    private String key(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            // Separator keeps ("ab", "c") and ("a", "bc") apart
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.phoebe.security;
+
+import com.example.phoebe.monitoring.jfr.AuthenticationEvent;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Username/password provider that skips the user lookup and BCrypt check for credentials
+ * verified recently. Misses are delegated (normally to a DaoAuthenticationProvider) and
+ * successful results are cached in {@link AuthenticationCache}.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache authenticationCache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthenticationCache authenticationCache) {
+        this.delegate = delegate;
+        this.authenticationCache = authenticationCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (username == null || !(credentials instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        UserDetails cached = authenticationCache.get(username, password);
+        if (cached != null) {
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    copyWithoutPassword(cached), null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = authenticateRecorded(authentication);
+        if (result != null && result.isAuthenticated() && result.getPrincipal() instanceof UserDetails details) {
+            authenticationCache.put(username, password, copyWithoutPassword(details));
+        }
+        return result;
+    }
+
+    /**
+     * Delegates and records the lookup and BCrypt time as an {@link AuthenticationEvent}.
+     */
+    private Authentication authenticateRecorded(Authentication authentication) {
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            success = result != null && result.isAuthenticated();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Callers (ProviderManager) erase credentials on the returned principal, so cached and
+     * returned principals are separate copies that never hold the password hash.
+     */
+    private static UserDetails copyWithoutPassword(UserDetails details) {
+        return User.withUserDetails(details).password("").build();
+    }
+}
@@ -11,6 +11,7 @@ public class RoleConstants {
     public static final String EDITOR = "EDITOR";
 
     // Spring Security authorities (with ROLE_ prefix)
+    public static final String ROLE_PREFIX = "ROLE_";
     public static final String ROLE_ADMIN = "ROLE_ADMIN";
     public static final String ROLE_EDITOR = "ROLE_EDITOR";
 
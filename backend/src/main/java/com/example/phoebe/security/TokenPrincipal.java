@@ -0,0 +1,23 @@
+package com.example.phoebe.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.List;
+
+/**
+ * Principal restored from a verified access token. Carries the user id so that services
+ * can resolve the current user without a lookup by username.
+ *
+ * @param roles role names without the {@code ROLE_} prefix
+ */
+public record TokenPrincipal(
+        Long userId,
+        String username,
+        List<String> roles
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
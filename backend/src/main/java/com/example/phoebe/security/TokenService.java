@@ -0,0 +1,149 @@
+package com.example.phoebe.security;
+
+import com.example.phoebe.config.SecurityProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Issues and verifies short-lived signed access tokens (JWT, HS256).
+ *
+ * Notes:
+ * - Verification is pure CPU: one HMAC and a small JSON parse, no database and no BCrypt.
+ * - Only the exact header this service emits is accepted, which rules out "alg" confusion.
+ * - Without a configured secret a random one is generated; tokens then do not survive
+ *   a restart and are not accepted by other replicas.
+ */
+@Component
+public class TokenService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenService.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec keySpec;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public TokenService(SecurityProperties securityProperties, ObjectMapper objectMapper) {
+        this(securityProperties, objectMapper, Clock.systemUTC());
+    }
+
+    TokenService(SecurityProperties securityProperties, ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.keySpec = new SecretKeySpec(resolveSecret(securityProperties.jwtSecret()), HMAC_ALGORITHM);
+        this.ttl = securityProperties.jwtExpirationMs() > 0
+                ? Duration.ofMillis(securityProperties.jwtExpirationMs())
+                : DEFAULT_TTL;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Issues a token for the given user.
+     *
+     * @param roles role names without the {@code ROLE_} prefix
+     */
+    public String issue(Long userId, String username, Collection<String> roles) {
+        long now = clock.instant().getEpochSecond();
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("sub", username)
+                .put("uid", userId)
+                .put("iat", now)
+                .put("exp", now + ttl.toSeconds());
+        roles.forEach(payload.putArray("roles")::add);
+
+        try {
+            String unsigned = HEADER + '.' + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+            return unsigned + '.' + ENCODER.encodeToString(sign(unsigned));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize access token", e);
+        }
+    }
+
+    /**
+     * Verifies signature and expiry.
+     *
+     * @return the principal, or empty if the token is malformed, forged or expired
+     */
+    public Optional<TokenPrincipal> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || !token.startsWith(HEADER + '.')) {
+            return Optional.empty();
+        }
+        try {
+            String unsigned = token.substring(0, lastDot);
+            byte[] signature = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(sign(unsigned), signature)) {
+                return Optional.empty();
+            }
+
+            JsonNode payload = objectMapper.readTree(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+            if (payload.path("exp").asLong(0) <= clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            List<String> roles = new ArrayList<>();
+            payload.path("roles").forEach(role -> roles.add(role.asText()));
+            return Optional.of(new TokenPrincipal(payload.path("uid").asLong(), payload.path("sub").asText(),
+                    List.copyOf(roles)));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String unsigned) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String configured) {
+        if (configured == null || configured.isBlank()) {
+            LOGGER.warn("app.security.jwt-secret is not set; using a random key. "
+                    + "Access tokens will not survive restarts or work across instances.");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] secret = configured.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.jwt-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return secret;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.dto.response.BulkActionJobDto;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.monitoring.jfr.BulkActionChunkEvent;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs bulk actions over arbitrarily large selections as background jobs.
+ *
+ * Notes:
+ * - Matching IDs are walked with a keyset cursor ({@code id > lastId}) in chunks of {@code chunkSize};
+ *   no full ID list is materialized and every statement has a bounded IN list.
+ * - Each chunk runs in its own transaction, so locks are held for one chunk only and a failure
+ *   or cancellation keeps the chunks already committed.
+ * - Jobs run one at a time on a single worker thread. Job state lives in memory on the node that
+ *   accepted the job; finished jobs are kept until {@code MAX_RETAINED_JOBS} is exceeded.
+ */
+@Service
+public class BulkActionJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkActionJobService.class);
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final NewsRepository newsRepository;
+    private final TermRepository termRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bulk-action-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BulkActionJobService(NewsRepository newsRepository, TermRepository termRepository,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                @Value("${app.bulk-jobs.chunk-size:500}") int chunkSize) {
+        this.newsRepository = newsRepository;
+        this.termRepository = termRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Validates and queues a bulk action. Returns immediately with the job in state QUEUED.
+     */
+    public BulkActionJobDto submit(BulkActionRequestDto request, String submittedBy) {
+        if (!request.isConfirmed()) {
+            throw new IllegalArgumentException("Bulk operation must be confirmed");
+        }
+        BulkActions.validate(request);
+        if (BulkActions.isTermAction(request.getAction()) && !termRepository.existsById(request.getTargetTermId())) {
+            throw new ResourceNotFoundException("Term", "id", request.getTargetTermId());
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), request, submittedBy);
+        removeFinishedJobs();
+        jobs.put(job.id, job);
+        worker.execute(() -> run(job));
+        LOGGER.info("Bulk job {} queued: {} {} by {}", job.id, request.getAction(), request.getFilterType(), submittedBy);
+        return job.toDto();
+    }
+
+    public BulkActionJobDto getJob(String jobId) {
+        return findJob(jobId).toDto();
+    }
+
+    /**
+     * Requests cancellation. A queued job never starts; a running job stops after its current chunk.
+     */
+    public BulkActionJobDto cancel(String jobId) {
+        Job job = findJob(jobId);
+        job.requestCancel();
+        return job.toDto();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Executes a job on the calling thread. Package-private so tests can run it synchronously.
+     */
+    void run(Job job) {
+        if (job.cancelRequested) {
+            job.finish(BulkActionJobDto.Status.CANCELLED, null);
+            return;
+        }
+        job.startedAt = Instant.now();
+        job.status = BulkActionJobDto.Status.RUNNING;
+        try {
+            BulkActionRequestDto request = job.request;
+            job.totalCount = countTargets(request);
+            long lastId = 0L;
+            List<Long> ids;
+            do {
+                ids = nextChunk(request, lastId);
+                if (!ids.isEmpty()) {
+                    List<Long> chunk = ids;
+                    BulkActionChunkEvent event = new BulkActionChunkEvent();
+                    event.begin();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        BulkActions.apply(newsRepository, request, chunk);
+                        eventPublisher.publishEvent(ContentChangeEvent.news("bulk job " + request.getAction(), chunk));
+                    });
+                    job.processedCount += chunk.size();
+                    job.chunkCount++;
+                    commit(event, job, chunk.size());
+                    lastId = chunk.get(chunk.size() - 1);
+                }
+                if (job.cancelRequested) {
+                    job.finish(BulkActionJobDto.Status.CANCELLED, null);
+                    LOGGER.info("Bulk job {} cancelled after {} articles", job.id, job.processedCount);
+                    return;
+                }
+            } while (ids.size() == chunkSize);
+            job.finish(BulkActionJobDto.Status.COMPLETED, null);
+            LOGGER.info("Bulk job {} completed: {} articles in {} chunks", job.id, job.processedCount, job.chunkCount);
+        } catch (RuntimeException e) {
+            job.finish(BulkActionJobDto.Status.FAILED, e.getMessage());
+            LOGGER.error("Bulk job {} failed after {} articles", job.id, job.processedCount, e);
+        }
+    }
+
+    private static void commit(BulkActionChunkEvent event, Job job, int articles) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobId = job.id;
+            event.action = String.valueOf(job.request.getAction());
+            event.chunk = job.chunkCount;
+            event.articles = articles;
+            event.commit();
+        }
+    }
+
+    private long countTargets(BulkActionRequestDto request) {
+        return switch (request.getFilterType()) {
+            case BY_IDS -> request.getItemIds() == null ? 0 : request.getItemIds().size();
+            case BY_TERM -> newsRepository.countByTermId(request.getTermId());
+            case BY_AUTHOR -> newsRepository.countByAuthorId(request.getAuthorId());
+            case ALL -> newsRepository.count();
+        };
+    }
+
+    /**
+     * Next chunk of matching IDs in ascending order, strictly after {@code lastId}.
+     */
+    private List<Long> nextChunk(BulkActionRequestDto request, long lastId) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        return switch (request.getFilterType()) {
+            case BY_IDS -> request.getItemIds() == null ? List.of() : request.getItemIds().stream()
+                    .filter(id -> id != null && id > lastId)
+                    .sorted()
+                    .limit(chunkSize)
+                    .toList();
+            case BY_TERM -> newsRepository.findIdsByTermIdAfterId(request.getTermId(), lastId, chunk);
+            case BY_AUTHOR -> newsRepository.findIdsByAuthorIdAfterId(request.getAuthorId(), lastId, chunk);
+            case ALL -> newsRepository.findIdsAfterId(lastId, chunk);
+        };
+    }
+
+    private Job findJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Bulk job", "id", jobId);
+        }
+        return job;
+    }
+
+    private void removeFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.status.isFinished())
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1L)
+                .toList()
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    /**
+     * Mutable job state. Written by the worker thread only, read by request threads.
+     */
+    static final class Job {
+        private final String id;
+        private final BulkActionRequestDto request;
+        private final String submittedBy;
+        private final Instant submittedAt = Instant.now();
+        private volatile BulkActionJobDto.Status status = BulkActionJobDto.Status.QUEUED;
+        private volatile boolean cancelRequested;
+        private volatile Long totalCount;
+        private volatile long processedCount;
+        private volatile int chunkCount;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Job(String id, BulkActionRequestDto request, String submittedBy) {
+            this.id = id;
+            this.request = request;
+            this.submittedBy = submittedBy;
+        }
+
+        void requestCancel() {
+            cancelRequested = true;
+        }
+
+        private void finish(BulkActionJobDto.Status finalStatus, String failure) {
+            error = failure;
+            finishedAt = Instant.now();
+            status = finalStatus;
+        }
+
+        BulkActionJobDto toDto() {
+            return new BulkActionJobDto(id, request.getAction(), request.getFilterType(), status, totalCount,
+                    processedCount, chunkCount, submittedBy, submittedAt, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.repository.NewsRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based bulk actions on one bounded batch of news IDs, shared by the synchronous
+ * bulk endpoint and {@link BulkActionJobService}. Callers provide the transaction.
+ */
+public final class BulkActions {
+
+    private BulkActions() {
+    }
+
+    /**
+     * Rejects requests that cannot be executed; confirmation is checked by the callers.
+     */
+    public static void validate(BulkActionRequestDto request) {
+        if (request.getAction() == null || request.getFilterType() == null) {
+            throw new IllegalArgumentException("Bulk action and filter type must be specified");
+        }
+        if (isTermAction(request.getAction()) && request.getTargetTermId() == null) {
+            throw new IllegalArgumentException("targetTermId is required for " + request.getAction());
+        }
+        if (request.getFilterType() == BulkActionRequestDto.FilterType.BY_TERM && request.getTermId() == null) {
+            throw new IllegalArgumentException("termId is required for filter BY_TERM");
+        }
+        if (request.getFilterType() == BulkActionRequestDto.FilterType.BY_AUTHOR && request.getAuthorId() == null) {
+            throw new IllegalArgumentException("authorId is required for filter BY_AUTHOR");
+        }
+    }
+
+    public static boolean isTermAction(BulkActionRequestDto.ActionType action) {
+        return action == BulkActionRequestDto.ActionType.ASSIGN_TERM
+                || action == BulkActionRequestDto.ActionType.REMOVE_TERM;
+    }
+
+    /**
+     * Applies the request's action to the given IDs with a constant number of statements.
+     */
+    public static void apply(NewsRepository newsRepository, BulkActionRequestDto request, List<Long> ids) {
+        switch (request.getAction()) {
+            case DELETE:
+                // Optimized for performance: uses a single DELETE statement for multiple entities.
+                newsRepository.deleteAllByIdInBatch(ids);
+                break;
+            case UNPUBLISH:
+                newsRepository.unpublishByIds(ids);
+                break;
+            case PUBLISH:
+                newsRepository.publishByIds(ids);
+                break;
+            case ASSIGN_TERM:
+                if (newsRepository.assignTermToIds(request.getTargetTermId(), ids) > 0) {
+                    newsRepository.touchByIds(ids, LocalDateTime.now());
+                }
+                break;
+            case REMOVE_TERM:
+                if (newsRepository.removeTermFromIds(request.getTargetTermId(), ids) > 0) {
+                    newsRepository.touchByIds(ids, LocalDateTime.now());
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported bulk action: " + request.getAction());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.phoebe.service;
 
 import com.example.phoebe.dto.request.ChannelSettingsUpdateDto;
 import com.example.phoebe.dto.response.ChannelSettingsDto;
+import com.example.phoebe.value.CacheValidator;
 
 /**
  * Service interface for managing channel settings.
@@ -14,6 +15,12 @@ public interface ChannelSettingsService {
      */
     ChannelSettingsDto getSettings();
 
+    /**
+     * Get conditional GET validators of the current settings (ETag over the settings row).
+     * @return Cache validator
+     */
+    CacheValidator getSettingsValidator();
+
     /**
      * Update channel settings.
      * @param updateDto Update data
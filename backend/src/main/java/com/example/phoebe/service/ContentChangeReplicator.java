@@ -0,0 +1,165 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.event.ContentChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Fans content changes out to the other replicas through the {@code content_change_log} table.
+ *
+ * Notes:
+ * - Local changes are appended in the writing transaction (BEFORE_COMMIT), so a change is logged
+ *   if and only if it commits.
+ * - Each replica polls for rows with a higher id than it has seen, skips its own rows, and
+ *   re-publishes the rest as local-only {@link ContentChangeEvent}s.
+ * - Ids are allocated at insert but become visible at commit, so a lower id can appear after a
+ *   higher one. Skipped ids are kept as pending gaps and re-checked for {@code GAP_TIMEOUT};
+ *   ids that never show up (rolled-back inserts) are then dropped.
+ * - Replaying a change twice is harmless: every listener only invalidates or re-reads.
+ */
+@Service
+public class ContentChangeReplicator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentChangeReplicator.class);
+
+    /** Changes touching more articles than this are logged as "all news". */
+    static final int MAX_LOGGED_IDS = 1000;
+    static final String ALL_NEWS = "*";
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_PENDING_GAPS = 1000;
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private long lastSeenId = -1;
+    private final Map<Long, Long> pendingGaps = new HashMap<>();
+
+    public ContentChangeReplicator(DataSource dataSource, ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.content-changes.retention:1h}") Duration retention) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.eventPublisher = eventPublisher;
+        this.retention = retention;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(ContentChangeEvent event) {
+        if (!event.broadcast()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO content_change_log (node_id, source, news_ids, created_at) VALUES (?, ?, ?, ?)",
+                nodeId, truncate(event.source()), encodeIds(event), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.content-changes.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        try {
+            if (lastSeenId < 0) {
+                // Caches start empty, so history before startup is irrelevant
+                Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM content_change_log", Long.class);
+                lastSeenId = maxId == null ? 0 : maxId;
+                return;
+            }
+            List<ChangeRow> rows = new ArrayList<>(jdbcTemplate.query(
+                    "SELECT id, node_id, source, news_ids FROM content_change_log WHERE id > ? ORDER BY id",
+                    ps -> {
+                        ps.setLong(1, lastSeenId);
+                        ps.setMaxRows(POLL_BATCH_SIZE);
+                    },
+                    (rs, rowNum) -> new ChangeRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4))));
+            rows.addAll(findPendingGaps());
+            long now = System.currentTimeMillis();
+            for (ChangeRow row : rows) {
+                if (pendingGaps.remove(row.id()) == null) {
+                    for (long gap = lastSeenId + 1; gap < row.id() && pendingGaps.size() < MAX_PENDING_GAPS; gap++) {
+                        pendingGaps.put(gap, now);
+                    }
+                    lastSeenId = Math.max(lastSeenId, row.id());
+                }
+                if (!nodeId.equals(row.nodeId())) {
+                    eventPublisher.publishEvent(new ContentChangeEvent(row.source(), decodeIds(row.newsIds()), false));
+                }
+            }
+            pendingGaps.values().removeIf(firstSeen -> now - firstSeen > GAP_TIMEOUT.toMillis());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Polling content change log failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.content-changes.cleanup-interval-ms:600000}")
+    public void removeOldEntries() {
+        try {
+            int removed = jdbcTemplate.update("DELETE FROM content_change_log WHERE created_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+            if (removed > 0) {
+                LOGGER.debug("Removed {} old content change log entries", removed);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cleaning up content change log failed: {}", e.getMessage());
+        }
+    }
+
+    private List<ChangeRow> findPendingGaps() {
+        if (pendingGaps.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(pendingGaps.keySet());
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        return jdbcTemplate.query(
+                "SELECT id, node_id, source, news_ids FROM content_change_log WHERE id IN (" + placeholders + ")",
+                (rs, rowNum) -> new ChangeRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                ids.toArray());
+    }
+
+    static String encodeIds(ContentChangeEvent event) {
+        if (event.allNews() || event.newsIds().size() > MAX_LOGGED_IDS) {
+            return ALL_NEWS;
+        }
+        if (event.newsIds().isEmpty()) {
+            return null;
+        }
+        return event.newsIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    static List<Long> decodeIds(String value) {
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+        if (ALL_NEWS.equals(value)) {
+            return null;
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private static String truncate(String source) {
+        String value = source == null ? "" : source;
+        return value.length() <= 100 ? value : value.substring(0, 100);
+    }
+
+    private record ChangeRow(long id, String nodeId, String source, String newsIds) {}
+}
@@ -3,9 +3,11 @@ package com.example.phoebe.service;
 import com.example.phoebe.dto.HomePageBlockDto;
 import com.example.phoebe.entity.HomePageBlock;
 import com.example.phoebe.entity.Term;
+import com.example.phoebe.event.ContentChangeEvent;
 import com.example.phoebe.mapper.HomePageBlockMapper;
 import com.example.phoebe.repository.HomePageBlockRepository;
 import com.example.phoebe.repository.TermRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +22,14 @@ public class HomePageBlockService {
     private final HomePageBlockRepository blockRepository;
     private final TermRepository termRepository;
     private final HomePageBlockMapper blockMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public HomePageBlockService(HomePageBlockRepository blockRepository, TermRepository termRepository, HomePageBlockMapper blockMapper) {
+    public HomePageBlockService(HomePageBlockRepository blockRepository, TermRepository termRepository, HomePageBlockMapper blockMapper,
+                                ApplicationEventPublisher eventPublisher) {
         this.blockRepository = blockRepository;
         this.termRepository = termRepository;
         this.blockMapper = blockMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -46,6 +51,7 @@ public class HomePageBlockService {
         HomePageBlock block = blockMapper.toEntity(dto);
         updateTaxonomyTerms(block, dto.getTaxonomyTermIds());
         HomePageBlock savedBlock = blockRepository.save(block);
+        eventPublisher.publishEvent(ContentChangeEvent.homepage("homepage block created"));
         return blockMapper.toDto(savedBlock);
     }
 
@@ -64,6 +70,7 @@ public class HomePageBlockService {
 
         updateTaxonomyTerms(block, dto.getTaxonomyTermIds());
         HomePageBlock updatedBlock = blockRepository.save(block);
+        eventPublisher.publishEvent(ContentChangeEvent.homepage("homepage block updated"));
         return blockMapper.toDto(updatedBlock);
     }
 
@@ -71,6 +78,7 @@ public class HomePageBlockService {
 
     public void delete(Integer id) {
         blockRepository.deleteById(id);
+        eventPublisher.publishEvent(ContentChangeEvent.homepage("homepage block deleted"));
     }
 
     private void updateTaxonomyTerms(HomePageBlock block, Set<Long> termIds) { // Changed from Integer to Long
@@ -2,38 +2,100 @@ package com.example.phoebe.service;
 
 import com.example.phoebe.dto.HomepageModeDto;
 import com.example.phoebe.entity.HomepageSettings;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.event.SettingsChangedEvent;
 import com.example.phoebe.mapper.HomepageSettingsMapper;
 import com.example.phoebe.model.HomepageMode;
 import com.example.phoebe.repository.HomepageSettingsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Objects;
+
+/**
+ * Homepage mode, held as an in-memory snapshot of the singleton homepage_settings row.
+ * Reads cost no I/O; the snapshot is reloaded after a local update commits and when
+ * polling the row version reveals a change made by another replica.
+ */
 @Service
 public class HomepageSettingsService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HomepageSettingsService.class);
+
     private final HomepageSettingsRepository settingsRepository;
     private final HomepageSettingsMapper settingsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ModeSnapshot snapshot;
 
-    public HomepageSettingsService(HomepageSettingsRepository settingsRepository, HomepageSettingsMapper settingsMapper) {
+    public HomepageSettingsService(HomepageSettingsRepository settingsRepository, HomepageSettingsMapper settingsMapper,
+                                   ApplicationEventPublisher eventPublisher) {
         this.settingsRepository = settingsRepository;
         this.settingsMapper = settingsMapper;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional(readOnly = true)
     public HomepageModeDto getCurrentMode() {
-        // Assuming there's always one and only one settings entry
-        return settingsRepository.findAll().stream().findFirst()
-                .map(settingsMapper::toDto)
-                .orElse(new HomepageModeDto(HomepageMode.SIMPLE)); // Default fallback
+        ModeSnapshot current = snapshot;
+        if (current == null) {
+            current = reload();
+        }
+        // HomepageModeDto is mutable, so every caller gets its own copy
+        return new HomepageModeDto(current.mode());
     }
 
     @Transactional
     public HomepageModeDto updateMode(HomepageModeDto modeDto) {
-        HomepageSettings settings = settingsRepository.findAll().stream().findFirst()
+        HomepageSettings settings = settingsRepository.findSingletonSettings()
                 .orElseThrow(() -> new RuntimeException("Settings not found")); // Should not happen
 
         settings.setMode(modeDto.getMode());
         HomepageSettings updatedSettings = settingsRepository.save(settings);
+        eventPublisher.publishEvent(new SettingsChangedEvent(SettingsChangedEvent.HOMEPAGE_MODE));
+        eventPublisher.publishEvent(ContentChangeEvent.homepage("homepage mode updated"));
         return settingsMapper.toDto(updatedSettings);
     }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        if (SettingsChangedEvent.HOMEPAGE_MODE.equals(event.settings())) {
+            reload();
+        }
+    }
+
+    /**
+     * Picks up mode changes committed by other replicas and lets the local homepage snapshot rebuild.
+     */
+    @Scheduled(fixedDelayString = "${app.settings.poll-interval-ms:10000}")
+    public void pollForChanges() {
+        ModeSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Long version = settingsRepository.findSingletonVersion().orElse(null);
+        if (!Objects.equals(version, current.version())) {
+            LOGGER.info("Homepage mode changed (version {} -> {}), reloading", current.version(), version);
+            ModeSnapshot loaded = reload();
+            if (loaded.mode() != current.mode()) {
+                // Every replica detects this itself, so the event is not broadcast
+                eventPublisher.publishEvent(ContentChangeEvent.homepage("homepage mode changed on another node").localOnly());
+            }
+        }
+    }
+
+    private synchronized ModeSnapshot reload() {
+        // Assuming there's always one and only one settings entry
+        ModeSnapshot loaded = settingsRepository.findSingletonSettings()
+                .map(settings -> new ModeSnapshot(settings.getMode(), settings.getVersion()))
+                .orElse(new ModeSnapshot(HomepageMode.SIMPLE, null)); // Default fallback
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private record ModeSnapshot(HomepageMode mode, Long version) {}
 }
@@ -0,0 +1,166 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.PublicHomepageResponseDto;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.monitoring.jfr.HomepageBuildEvent;
+import com.example.phoebe.value.HomepageSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the public homepage from a materialized, pre-serialized snapshot.
+ *
+ * The snapshot is rebuilt on a single background thread whenever a {@link ContentChangeEvent}
+ * is published (after the surrounding transaction commits, or replayed from another replica). Bursts of changes are coalesced
+ * into one rebuild. Readers never wait for a rebuild except for the very first request
+ * on a cold node.
+ */
+@Service
+public class HomepageSnapshotService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HomepageSnapshotService.class);
+
+    private final PublicHomepageService publicHomepageService;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+
+    private final AtomicReference<HomepageSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "homepage-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HomepageSnapshotService(PublicHomepageService publicHomepageService, ObjectMapper objectMapper,
+                                   @Value("${app.homepage.snapshot.max-age:5m}") Duration maxAge) {
+        this.publicHomepageService = publicHomepageService;
+        this.objectMapper = objectMapper;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the current snapshot. A snapshot older than the configured max age is still
+     * served, but a background rebuild is triggered (safety net for changes that bypass events).
+     */
+    public HomepageSnapshot getSnapshot() {
+        HomepageSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return buildInitialSnapshot();
+        }
+        if (snapshot.builtAt().plus(maxAge).isBefore(Instant.now())) {
+            scheduleRebuild();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Renders the homepage and publishes it as the current snapshot.
+     * If the rendered content is identical to the current snapshot, the current one is kept,
+     * so its ETag (and clients' caches) stay valid.
+     */
+    public synchronized HomepageSnapshot rebuild() {
+        // Cleared before rendering: a change arriving during the build schedules another one.
+        rebuildPending.set(false);
+        HomepageBuildEvent event = new HomepageBuildEvent();
+        event.begin();
+
+        byte[] body = serialize(publicHomepageService.getHomepageContent());
+        String etag = computeEtag(body);
+
+        HomepageSnapshot previous = current.get();
+        if (previous != null && previous.etag().equals(etag)) {
+            HomepageSnapshot refreshed = new HomepageSnapshot(previous.version(), etag, previous.body(), Instant.now());
+            current.set(refreshed);
+            commit(event, refreshed, false);
+            return refreshed;
+        }
+
+        HomepageSnapshot snapshot = new HomepageSnapshot(versionSequence.incrementAndGet(), etag, body, Instant.now());
+        current.set(snapshot);
+        commit(event, snapshot, true);
+        LOGGER.debug("Homepage snapshot v{} built ({} bytes)", snapshot.version(), body.length);
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangeEvent event) {
+        LOGGER.debug("Homepage change detected: {}", event.source());
+        scheduleRebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private synchronized HomepageSnapshot buildInitialSnapshot() {
+        HomepageSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException ex) {
+                    rebuildPending.set(false);
+                    LOGGER.error("Failed to rebuild homepage snapshot, keeping the previous one", ex);
+                }
+            });
+        }
+    }
+
+    private static void commit(HomepageBuildEvent event, HomepageSnapshot snapshot, boolean changed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = snapshot.body().length;
+            event.changed = changed;
+            event.version = snapshot.version();
+            event.commit();
+        }
+    }
+
+    private byte[] serialize(PublicHomepageResponseDto content) {
+        try {
+            return objectMapper.writeValueAsBytes(content);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize homepage content", ex);
+        }
+    }
+
+    private static String computeEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
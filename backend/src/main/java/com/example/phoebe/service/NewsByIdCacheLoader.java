@@ -0,0 +1,42 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.config.CacheRefreshLoader;
+import com.example.phoebe.mapper.NewsMapper;
+import com.example.phoebe.repository.NewsRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background reload of {@code news-by-id} entries, mirroring NewsService#findPublishedById.
+ * An article that was unpublished or deleted in the meantime loads as {@code null} and drops out.
+ */
+@Component
+public class NewsByIdCacheLoader implements CacheRefreshLoader {
+
+    private final NewsRepository newsRepository;
+    private final NewsMapper newsMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public NewsByIdCacheLoader(NewsRepository newsRepository, NewsMapper newsMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.newsRepository = newsRepository;
+        this.newsMapper = newsMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public String cacheName() {
+        return NewsCacheInvalidator.NEWS_BY_ID;
+    }
+
+    @Override
+    public Object load(Object key) {
+        Long id = (Long) key;
+        // Runs on Caffeine's refresh executor, so the lazy associations need their own transaction
+        return transactionTemplate.execute(status -> newsRepository.findByIdAndPublished(id, true)
+                .map(newsMapper::toDto)
+                .orElse(null));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.event.ContentChangeEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached public news after a content change commits, locally or on another replica.
+ * Evicting after commit (rather than with @CacheEvict on the write method) keeps a concurrent
+ * read from re-caching the pre-commit state.
+ */
+@Component
+public class NewsCacheInvalidator {
+
+    static final String NEWS_BY_ID = "news-by-id";
+
+    private final CacheManager cacheManager;
+
+    public NewsCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangeEvent event) {
+        Cache cache = cacheManager.getCache(NEWS_BY_ID);
+        if (cache == null) {
+            return;
+        }
+        if (event.allNews()) {
+            cache.clear();
+            return;
+        }
+        for (Long id : event.newsIds()) {
+            cache.evict(id);
+        }
+    }
+}
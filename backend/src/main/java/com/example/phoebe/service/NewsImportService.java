@@ -0,0 +1,269 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.request.NewsImportRecordDto;
+import com.example.phoebe.dto.response.NewsImportResultDto;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.TokenPrincipal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of news from an NDJSON stream (one JSON article per line).
+ *
+ * Notes:
+ * - The body is read line by line; at most one batch of records is held in memory.
+ * - Term IDs are resolved with one query per batch and remembered for the rest of the import.
+ * - Articles are written with plain JDBC batches: News uses IDENTITY ids, which makes Hibernate
+ *   insert row by row, so content rows go through one batched statement that returns the
+ *   generated keys, followed by one batch of content_terms rows. With MySQL, set
+ *   {@code rewriteBatchedStatements=true} on the JDBC URL to send each batch as multi-row INSERTs.
+ * - Every batch commits in its own transaction. A failing batch rejects its records only.
+ */
+@Service
+public class NewsImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String INSERT_CONTENT =
+            "INSERT INTO content (title, body, teaser, publication_date, published, created_at, updated_at, version, author_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final String INSERT_CONTENT_TERM = "INSERT INTO content_terms (content_id, term_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TermRepository termRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader recordReader;
+    private final Validator validator;
+    private final int batchSize;
+
+    public NewsImportService(DataSource dataSource, TermRepository termRepository, UserRepository userRepository,
+                             ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper, Validator validator,
+                             @Value("${app.news-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.termRepository = termRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recordReader = objectMapper.readerFor(NewsImportRecordDto.class);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    public NewsImportResultDto importNdjson(InputStream input, Authentication authentication) throws IOException {
+        Import run = new Import(resolveAuthorId(authentication));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.received++;
+            NewsImportRecordDto record = parse(run, lineNumber, line);
+            if (record != null) {
+                run.batch.add(new PendingRecord(lineNumber, record));
+                if (run.batch.size() >= batchSize) {
+                    flush(run);
+                }
+            }
+        }
+        flush(run);
+        LOGGER.info("News import finished: {} received, {} imported, {} failed", run.received, run.imported, run.failed);
+        return new NewsImportResultDto(run.received, run.imported, run.failed, run.errors,
+                run.failed > run.errors.size());
+    }
+
+    private NewsImportRecordDto parse(Import run, long lineNumber, String line) {
+        NewsImportRecordDto record;
+        try {
+            record = recordReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<NewsImportRecordDto>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            run.reject(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return record;
+    }
+
+    private void flush(Import run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        List<PendingRecord> records = resolveTerms(run, run.batch);
+        run.batch = new ArrayList<>(batchSize);
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(records, run.authorId));
+            run.imported += records.size();
+        } catch (RuntimeException e) {
+            LOGGER.warn("News import batch of {} records (lines {}-{}) failed: {}", records.size(),
+                    records.get(0).line(), records.get(records.size() - 1).line(), e.getMessage());
+            for (PendingRecord record : records) {
+                run.reject(record.line(), "Batch failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Rejects records that reference unknown terms; looks up only IDs not seen in earlier batches.
+     */
+    private List<PendingRecord> resolveTerms(Import run, List<PendingRecord> batch) {
+        Set<Long> unresolved = batch.stream()
+                .map(pending -> pending.record().termIds())
+                .filter(termIds -> termIds != null)
+                .flatMap(Set::stream)
+                .filter(termId -> !run.knownTermIds.contains(termId) && !run.unknownTermIds.contains(termId))
+                .collect(Collectors.toSet());
+        if (!unresolved.isEmpty()) {
+            List<Long> existing = termRepository.findExistingIds(unresolved);
+            run.knownTermIds.addAll(existing);
+            unresolved.removeAll(existing);
+            run.unknownTermIds.addAll(unresolved);
+        }
+
+        List<PendingRecord> accepted = new ArrayList<>(batch.size());
+        for (PendingRecord pending : batch) {
+            Set<Long> termIds = pending.record().termIds();
+            List<Long> unknown = termIds == null ? List.of() : termIds.stream()
+                    .filter(run.unknownTermIds::contains)
+                    .sorted()
+                    .toList();
+            if (unknown.isEmpty()) {
+                accepted.add(pending);
+            } else {
+                run.reject(pending.line(), "Unknown term id(s): " + unknown);
+            }
+        }
+        return accepted;
+    }
+
+    private void writeBatch(List<PendingRecord> records, Long authorId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_CONTENT, new String[] {"id"})) {
+                for (PendingRecord pending : records) {
+                    NewsImportRecordDto record = pending.record();
+                    statement.setString(1, record.title());
+                    statement.setString(2, record.content());
+                    statement.setString(3, record.teaser());
+                    statement.setTimestamp(4, record.publicationDate() != null
+                            ? Timestamp.valueOf(record.publicationDate()) : now);
+                    statement.setBoolean(5, Boolean.TRUE.equals(record.published()));
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                    statement.setLong(8, authorId);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> generated = new ArrayList<>(records.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+                return generated;
+            }
+        });
+        if (ids == null || ids.size() != records.size()) {
+            throw new IllegalStateException("Expected " + records.size() + " generated ids, got "
+                    + (ids == null ? 0 : ids.size()));
+        }
+
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            Set<Long> termIds = records.get(i).record().termIds();
+            if (termIds != null) {
+                for (Long termId : termIds) {
+                    links.add(new Object[] {ids.get(i), termId});
+                }
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONTENT_TERM, links);
+        }
+        eventPublisher.publishEvent(ContentChangeEvent.news("news imported", ids));
+    }
+
+    private Long resolveAuthorId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof TokenPrincipal tokenPrincipal) {
+            return tokenPrincipal.userId();
+        }
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))
+                .getId();
+    }
+
+    private record PendingRecord(long line, NewsImportRecordDto record) {}
+
+    /**
+     * Counters and caches of one import request.
+     */
+    private final class Import {
+        private final Long authorId;
+        private final Set<Long> knownTermIds = new HashSet<>();
+        private final Set<Long> unknownTermIds = new HashSet<>();
+        private final List<NewsImportResultDto.RecordError> errors = new ArrayList<>();
+        private List<PendingRecord> batch = new ArrayList<>(batchSize);
+        private long received;
+        private long imported;
+        private long failed;
+
+        private Import(Long authorId) {
+            this.authorId = authorId;
+        }
+
+        private void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new NewsImportResultDto.RecordError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.NewsSearchResultDto;
+import com.example.phoebe.dto.response.PagedResponseDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.search.IndexedNews;
+import com.example.phoebe.search.NewsSearchIndex;
+import com.example.phoebe.search.SearchResult;
+import com.example.phoebe.value.PaginationInfo;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Public full-text search over published news, served from an in-process {@link NewsSearchIndex}.
+ *
+ * The index is built on a background thread once the application is ready and is then kept
+ * current from {@link ContentChangeEvent}s, handled after the publishing transaction commits.
+ * All index writes run on one thread, so a rebuild and incremental updates never interleave.
+ * A rebuild fills a separate index and swaps it in when done, so until the first build completes
+ * searches return no results.
+ */
+@Service
+public class NewsSearchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsSearchService.class);
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NewsRepository newsRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "news-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile NewsSearchIndex index = new NewsSearchIndex();
+
+    public NewsSearchService(NewsRepository newsRepository, PlatformTransactionManager transactionManager) {
+        this.newsRepository = newsRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Searches published news.
+     *
+     * @param from optional inclusive lower bound on publication date
+     * @param to   optional exclusive upper bound on publication date
+     */
+    public PagedResponseDto<NewsSearchResultDto> search(String query, Long termId, LocalDateTime from,
+                                                        LocalDateTime to, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        // long arithmetic: a large page number must not overflow into a negative offset (i.e. the first page)
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+        SearchResult result = index.search(query, termId, from, to, offset, pageSize);
+
+        List<NewsSearchResultDto> content = result.hits().stream()
+                .map(hit -> new NewsSearchResultDto(hit.id(), hit.title(), hit.teaser(),
+                        hit.publicationDate(), hit.score()))
+                .collect(Collectors.toList());
+        int totalPages = (result.totalHits() + pageSize - 1) / pageSize;
+        PaginationInfo pagination = new PaginationInfo(pageNumber, totalPages, result.totalHits(), pageSize,
+                pageNumber + 1 < totalPages, pageNumber > 0);
+        return new PagedResponseDto<>(content, pagination);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangeEvent event) {
+        if (event.allNews()) {
+            indexExecutor.execute(this::rebuild);
+            return;
+        }
+        if (event.newsIds().isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(event.newsIds());
+        indexExecutor.execute(() -> reindex(ids));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in; searches keep using the old one meanwhile.
+     * Package-private so tests can run it synchronously.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        NewsSearchIndex fresh = new NewsSearchIndex();
+        try {
+            long lastId = 0L;
+            List<Long> ids;
+            do {
+                ids = newsRepository.findPublishedIdsAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+                if (!ids.isEmpty()) {
+                    indexBatch(fresh, ids);
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == BATCH_SIZE);
+            index = fresh;
+            LOGGER.info("Search index built: {} documents in {} ms", fresh.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to build search index", e);
+        }
+    }
+
+    /**
+     * Re-reads the given articles: published ones are (re)indexed, the rest are removed.
+     */
+    void reindex(List<Long> ids) {
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                indexBatch(index, ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to update search index for {} news items", ids.size(), e);
+        }
+    }
+
+    private void indexBatch(NewsSearchIndex target, List<Long> ids) {
+        List<IndexedNews> batch = readOnlyTransaction.execute(status ->
+                newsRepository.findAllWithAuthorAndTermsByIdIn(ids).stream()
+                        .filter(News::isPublished)
+                        .map(NewsSearchService::toIndexedNews)
+                        .collect(Collectors.toList()));
+
+        Set<Long> stale = new HashSet<>(ids);
+        for (IndexedNews news : batch) {
+            target.index(news);
+            stale.remove(news.id());
+        }
+        stale.forEach(target::remove);
+    }
+
+    private static IndexedNews toIndexedNews(News news) {
+        Set<Long> termIds = news.getTerms().stream().map(Term::getId).collect(Collectors.toSet());
+        return new IndexedNews(news.getId(), news.getTitle(), news.getTeaser(), news.getBody(),
+                news.getPublicationDate(), termIds);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.phoebe.service;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
 import com.example.phoebe.dto.request.NewsCreateRequestDto;
 import com.example.phoebe.dto.request.NewsUpdateRequestDto;
+import com.example.phoebe.dto.response.CursorPageDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
+import com.example.phoebe.value.CacheValidator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -16,15 +19,31 @@ import java.util.List;
  */
 public interface NewsService {
 
-    Page<NewsDto> findAllPublished(Pageable pageable);
+    Page<NewsSummaryDto> findAllPublished(Pageable pageable);
+
+    /**
+     * Keyset-paginated listing of published news, newest first, without a count query.
+     *
+     * @param cursor opaque token from a previous page, or null/blank for the first page
+     * @param size   maximum number of items to return
+     */
+    CursorPageDto<NewsSummaryDto> findAllPublished(String cursor, int size);
 
     NewsDto findPublishedById(Long id);
 
-    Page<NewsDto> findByTermId(Long termId, Pageable pageable);
+    /**
+     * Conditional GET validators of a published article, derived from its version and update time
+     * without loading or mapping the entity.
+     *
+     * @throws com.example.phoebe.exception.ResourceNotFoundException if the article is missing or unpublished
+     */
+    CacheValidator getPublishedValidator(Long id);
+
+    Page<NewsSummaryDto> findByTermId(Long termId, Pageable pageable);
 
-    Page<NewsDto> findByTermIds(List<Long> termIds, Pageable pageable);
+    Page<NewsSummaryDto> findByTermIds(List<Long> termIds, Pageable pageable);
 
-    Page<NewsDto> findAllForUser(Pageable pageable, Authentication authentication);
+    Page<NewsSummaryDto> findAllForUser(Pageable pageable, Authentication authentication);
 
     NewsDto findById(Long id, Authentication authentication);
 
@@ -5,9 +5,10 @@ import com.example.phoebe.dto.response.PublicHomepageResponseDto;
 import com.example.phoebe.dto.response.PublicNewsDto;
 import com.example.phoebe.entity.HomePageBlock;
 import com.example.phoebe.entity.News;
-import com.example.phoebe.entity.Term;
 import com.example.phoebe.model.HomePageBlockType;
 import com.example.phoebe.model.HomepageMode;
+import com.example.phoebe.monitoring.jfr.HomepageBlockLoadEvent;
+import com.example.phoebe.repository.HomePageBlockNewsRow;
 import com.example.phoebe.repository.HomePageBlockRepository;
 import com.example.phoebe.repository.NewsRepository;
 import org.springframework.data.domain.PageRequest;
@@ -16,8 +17,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,13 +47,50 @@ public class PublicHomepageService {
             response.setNews(latestNews.stream().map(this::toPublicNewsDto).collect(Collectors.toList()));
         } else {
             List<HomePageBlock> blocks = blockRepository.findAll(Sort.by("weight"));
-            response.setBlocks(blocks.stream().map(this::toPublicHomepageBlockDto).collect(Collectors.toList()));
+            Map<Integer, List<PublicNewsDto>> newsByBlock = loadNewsForBlocks(blocks);
+            response.setBlocks(blocks.stream()
+                    .map(block -> toPublicHomepageBlockDto(block, newsByBlock))
+                    .collect(Collectors.toList()));
         }
 
         return response;
     }
 
-    private PublicHomepageBlockDto toPublicHomepageBlockDto(HomePageBlock block) {
+    /**
+     * Loads the news of all NEWS_BLOCK blocks with one query instead of one query per block,
+     * then spreads the rows back across blocks. Row order (newest first) is preserved.
+     */
+    private Map<Integer, List<PublicNewsDto>> loadNewsForBlocks(List<HomePageBlock> blocks) {
+        List<Integer> newsBlockIds = blocks.stream()
+                .filter(this::isNewsBlock)
+                .map(HomePageBlock::getId)
+                .collect(Collectors.toList());
+
+        HomepageBlockLoadEvent event = new HomepageBlockLoadEvent();
+        event.begin();
+        Map<Integer, List<PublicNewsDto>> newsByBlock = new HashMap<>();
+        int rows = 0;
+        for (HomePageBlockNewsRow row : blockRepository.findLatestPublishedNewsForBlocks(newsBlockIds)) {
+            newsByBlock.computeIfAbsent(row.blockId(), id -> new ArrayList<>()).add(toPublicNewsDto(row));
+            rows++;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.blockType = "ALL_NEWS_BLOCKS";
+            event.requested = newsBlockIds.size();
+            event.loaded = rows;
+            event.commit();
+        }
+        return newsByBlock;
+    }
+
+    private boolean isNewsBlock(HomePageBlock block) {
+        return block.getBlockType() == HomePageBlockType.NEWS_BLOCK && block.getNewsCount() != null;
+    }
+
+    private PublicHomepageBlockDto toPublicHomepageBlockDto(HomePageBlock block, Map<Integer, List<PublicNewsDto>> newsByBlock) {
+        HomepageBlockLoadEvent event = new HomepageBlockLoadEvent();
+        event.begin();
         PublicHomepageBlockDto dto = new PublicHomepageBlockDto();
         dto.setId(block.getId());
         dto.setWeight(block.getWeight());
@@ -59,12 +99,18 @@ public class PublicHomepageService {
         dto.setShowTeaser(block.getShowTeaser());
         dto.setTitleFontSize(block.getTitleFontSize());
 
-        if (block.getBlockType() == HomePageBlockType.NEWS_BLOCK && block.getNewsCount() != null) {
-            Set<Long> termIds = block.getTaxonomyTerms().stream().map(Term::getId).collect(Collectors.toSet());
-            List<News> news = newsRepository.findNewsByTaxonomyTerms(termIds, PageRequest.of(0, block.getNewsCount()));
-            dto.setNews(news.stream().map(this::toPublicNewsDto).collect(Collectors.toList()));
+        if (isNewsBlock(block)) {
+            dto.setNews(newsByBlock.getOrDefault(block.getId(), new ArrayList<>()));
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.blockId = block.getId() == null ? 0 : block.getId();
+            event.blockType = String.valueOf(block.getBlockType());
+            event.requested = block.getNewsCount() == null ? 0 : block.getNewsCount();
+            event.loaded = dto.getNews() == null ? 0 : dto.getNews().size();
+            event.commit();
+        }
         return dto;
     }
 
@@ -77,4 +123,14 @@ public class PublicHomepageService {
                 news.getPublicationDate().atZone(ZoneId.systemDefault())
         );
     }
+
+    private PublicNewsDto toPublicNewsDto(HomePageBlockNewsRow row) {
+        return new PublicNewsDto(
+                row.newsId(),
+                row.title(),
+                null, // Slug is not available in News entity
+                row.teaser(),
+                row.publicationDate().atZone(ZoneId.systemDefault())
+        );
+    }
 }
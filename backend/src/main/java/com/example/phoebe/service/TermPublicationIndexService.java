@@ -0,0 +1,176 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.NewsTermLinkRow;
+import com.example.phoebe.search.TermPublicationIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Category pages (published news per term, newest first) served from an in-process {@link TermPublicationIndex}.
+ *
+ * The index is built on a background thread once the application is ready and is then kept
+ * current from {@link ContentChangeEvent}s, which every publish, unpublish, term change and delete
+ * emits after commit. All index writes run on one thread, so a rebuild and incremental updates
+ * never interleave. Until the first build completes, callers fall back to the database.
+ */
+@Service
+public class TermPublicationIndexService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TermPublicationIndexService.class);
+    private static final int BATCH_SIZE = 500;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "publicationDate");
+
+    private final NewsRepository newsRepository;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "term-publication-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile TermPublicationIndex index = new TermPublicationIndex();
+    private volatile boolean ready;
+
+    public TermPublicationIndexService(NewsRepository newsRepository) {
+        this.newsRepository = newsRepository;
+    }
+
+    /**
+     * One page of published news IDs tagged with any of the terms, or empty if the index cannot answer:
+     * it is still being built, or the page asks for an order other than newest first.
+     */
+    public Optional<Page<Long>> findPublishedIdPage(List<Long> termIds, Pageable pageable) {
+        if (!ready || !(pageable.getSort().isUnsorted() || NEWEST_FIRST.equals(pageable.getSort()))) {
+            return Optional.empty();
+        }
+        TermPublicationIndex current = index;
+        List<Long> ids;
+        long total;
+        if (termIds.size() == 1) {
+            long termId = termIds.get(0);
+            ids = current.page(termId, pageable.getOffset(), pageable.getPageSize());
+            total = current.count(termId);
+        } else {
+            ids = current.pageAny(termIds, pageable.getOffset(), pageable.getPageSize());
+            total = current.countAny(termIds);
+        }
+        return Optional.of(new PageImpl<>(ids, pageable, total));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangeEvent event) {
+        if (event.allNews()) {
+            indexExecutor.execute(this::rebuild);
+            return;
+        }
+        if (event.newsIds().isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(event.newsIds());
+        indexExecutor.execute(() -> reindex(ids));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in; readers keep using the old one meanwhile.
+     * Package-private so tests can run it synchronously.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        TermPublicationIndex.Builder builder = TermPublicationIndex.builder();
+        try {
+            long lastId = 0L;
+            List<Long> ids;
+            do {
+                ids = newsRepository.findPublishedIdsAfterId(lastId, PageRequest.of(0, BATCH_SIZE));
+                if (!ids.isEmpty()) {
+                    loadPublishedTerms(ids).forEach((id, terms) -> builder.add(id, terms.publicationDate(),
+                            terms.termIds()));
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == BATCH_SIZE);
+            TermPublicationIndex fresh = builder.build();
+            index = fresh;
+            ready = true;
+            LOGGER.info("Term publication index built: {} articles in {} ms", fresh.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to build term publication index", e);
+        }
+    }
+
+    /**
+     * Re-reads the term links of the given articles: published ones are (re)indexed, the rest are removed.
+     */
+    void reindex(List<Long> ids) {
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                indexBatch(index, ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+            }
+        } catch (RuntimeException e) {
+            // A stale index would serve wrong category pages until the next change; rebuild instead
+            LOGGER.warn("Failed to update term publication index for {} news items, rebuilding", ids.size(), e);
+            ready = false;
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void indexBatch(TermPublicationIndex target, List<Long> ids) {
+        Map<Long, PublishedTerms> published = loadPublishedTerms(ids);
+        for (Long id : ids) {
+            PublishedTerms terms = published.get(id);
+            if (terms == null) {
+                target.remove(id);
+            } else {
+                target.put(id, terms.publicationDate(), terms.termIds());
+            }
+        }
+    }
+
+    /**
+     * Publication date and term IDs of those of the given articles that are published and have terms.
+     */
+    private Map<Long, PublishedTerms> loadPublishedTerms(List<Long> ids) {
+        Map<Long, LocalDateTime> publicationDates = new HashMap<>();
+        Map<Long, List<Long>> termsByNews = new HashMap<>();
+        for (NewsTermLinkRow link : newsRepository.findPublishedTermLinksByNewsIdIn(ids)) {
+            publicationDates.put(link.newsId(), link.publicationDate());
+            termsByNews.computeIfAbsent(link.newsId(), id -> new ArrayList<>()).add(link.termId());
+        }
+        Map<Long, PublishedTerms> published = new HashMap<>();
+        termsByNews.forEach((id, termIds) -> published.put(id, new PublishedTerms(publicationDates.get(id),
+                termIds.stream().mapToLong(Long::longValue).toArray())));
+        return published;
+    }
+
+    private record PublishedTerms(LocalDateTime publicationDate, long[] termIds) {}
+}
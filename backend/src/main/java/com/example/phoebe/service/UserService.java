@@ -5,10 +5,12 @@ import com.example.phoebe.dto.request.UserUpdateRequestDto;
 import com.example.phoebe.dto.response.UserDto;
 import com.example.phoebe.entity.Role;
 import com.example.phoebe.entity.User;
+import com.example.phoebe.event.UserAccountChangedEvent;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.mapper.UserMapper;
 import com.example.phoebe.repository.RoleRepository;
 import com.example.phoebe.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,18 +28,21 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(UserRepository userRepository, RoleRepository roleRepository,
-                      UserMapper userMapper, PasswordEncoder passwordEncoder) {
+                      UserMapper userMapper, PasswordEncoder passwordEncoder,
+                      ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllWithRoles().stream()
                 .map(userMapper::toDto)
                 .collect(Collectors.toList());
     }
@@ -85,13 +90,14 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(updatedUser.getUsername()));
         return userMapper.toDto(updatedUser);
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userRepository.delete(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
     }
 }
@@ -6,6 +6,7 @@ import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.UserRepository;
 import com.example.phoebe.security.RoleConstants;
+import com.example.phoebe.security.TokenPrincipal;
 import com.example.phoebe.service.AuthorizationService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -45,6 +46,10 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
+        if (authentication.getPrincipal() instanceof TokenPrincipal tokenPrincipal) {
+            // Bearer-token requests carry the id; no lookup needed
+            return tokenPrincipal.userId();
+        }
         return userRepository.findIdByUsername(authentication.getName()).orElse(null);
     }
 
@@ -54,6 +59,10 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("No authenticated user found");
         }
+        if (authentication.getPrincipal() instanceof TokenPrincipal tokenPrincipal) {
+            // Lazy reference: the row is only read if the caller touches non-id state
+            return userRepository.getReferenceById(tokenPrincipal.userId());
+        }
         String username = authentication.getName();
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
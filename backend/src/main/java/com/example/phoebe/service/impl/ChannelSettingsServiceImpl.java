@@ -3,32 +3,64 @@ package com.example.phoebe.service.impl;
 import com.example.phoebe.dto.request.ChannelSettingsUpdateDto;
 import com.example.phoebe.dto.response.ChannelSettingsDto;
 import com.example.phoebe.entity.ChannelSettings;
+import com.example.phoebe.event.SettingsChangedEvent;
 import com.example.phoebe.mapper.ChannelSettingsMapper;
 import com.example.phoebe.repository.ChannelSettingsRepository;
 import com.example.phoebe.service.ChannelSettingsService;
+import com.example.phoebe.value.CacheValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
 
 /**
  * Implementation of ChannelSettingsService.
+ *
+ * Notes:
+ * - Settings are read on every SSR page render but change rarely, so reads are served from an
+ *   immutable in-memory snapshot without opening a transaction or touching the database.
+ * - The snapshot is reloaded after a local update commits, and when polling the row version
+ *   reveals a change made by another replica.
  */
 @Service
 public class ChannelSettingsServiceImpl implements ChannelSettingsService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChannelSettingsServiceImpl.class);
+
     private final ChannelSettingsRepository repository;
     private final ChannelSettingsMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
 
-    public ChannelSettingsServiceImpl(ChannelSettingsRepository repository, ChannelSettingsMapper mapper) {
+    public ChannelSettingsServiceImpl(ChannelSettingsRepository repository, ChannelSettingsMapper mapper,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager) {
         this.repository = repository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Reloads also run from after-commit listeners, where the finished transaction is still bound
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ChannelSettingsDto getSettings() {
-        ChannelSettings settings = repository.findSingletonSettings()
-                .orElseGet(this::createDefaultSettings);
-        return mapper.toDto(settings);
+        return currentSnapshot().settings();
+    }
+
+    @Override
+    public CacheValidator getSettingsValidator() {
+        return currentSnapshot().validator();
     }
 
     @Override
@@ -36,13 +68,70 @@ public class ChannelSettingsServiceImpl implements ChannelSettingsService {
     public ChannelSettingsDto updateSettings(ChannelSettingsUpdateDto updateDto) {
         ChannelSettings settings = repository.findSingletonSettings()
                 .orElseGet(this::createDefaultSettings);
-        
+
         mapper.updateEntity(settings, updateDto);
         settings = repository.save(settings);
-        
+        eventPublisher.publishEvent(new SettingsChangedEvent(SettingsChangedEvent.CHANNEL));
+
         return mapper.toDto(settings);
     }
 
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        if (SettingsChangedEvent.CHANNEL.equals(event.settings())) {
+            reload();
+        }
+    }
+
+    /**
+     * Picks up changes committed by other replicas. Costs one single-column query per interval.
+     */
+    @Scheduled(fixedDelayString = "${app.settings.poll-interval-ms:10000}")
+    public void pollForChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not loaded yet; the first read will load the current row
+            return;
+        }
+        Long version = repository.findSingletonVersion().orElse(null);
+        if (!Objects.equals(version, current.version())) {
+            LOGGER.info("Channel settings changed (version {} -> {}), reloading", current.version(), version);
+            reload();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Loads the settings row and swaps in a new snapshot. Serialized so that a slow load can
+     * never overwrite the result of a newer one.
+     */
+    private synchronized Snapshot reload() {
+        Snapshot loaded = transactionTemplate.execute(status -> {
+            ChannelSettings settings = repository.findSingletonSettings()
+                    .orElseGet(this::createDefaultSettings);
+            return new Snapshot(mapper.toDto(settings), validatorOf(settings), settings.getVersion());
+        });
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private static CacheValidator validatorOf(ChannelSettings settings) {
+        // The tag is a hash of every published field, so it is stable across replicas and restarts
+        return CacheValidator.ofContent(null,
+                settings.getSiteTitle(),
+                settings.getMetaDescription(),
+                settings.getMetaKeywords(),
+                settings.getHeaderHtml(),
+                settings.getLogoUrl(),
+                settings.getFooterHtml(),
+                settings.getMainMenuTermIds(),
+                settings.getSiteUrl());
+    }
+
     private ChannelSettings createDefaultSettings() {
         ChannelSettings settings = new ChannelSettings();
         settings.setSiteTitle("Phoebe CMS");
@@ -52,4 +141,7 @@ public class ChannelSettingsServiceImpl implements ChannelSettingsService {
         settings.setMainMenuTermIds("[]");
         return repository.save(settings);
     }
-}
\ No newline at end of file
+
+    /** Immutable view of the settings row; ChannelSettingsDto is a record, so it can be shared. */
+    private record Snapshot(ChannelSettingsDto settings, CacheValidator validator, Long version) {}
+}
@@ -3,55 +3,113 @@ package com.example.phoebe.service.impl;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
 import com.example.phoebe.dto.request.NewsCreateRequestDto;
 import com.example.phoebe.dto.request.NewsUpdateRequestDto;
+import com.example.phoebe.dto.response.CursorPageDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
 import com.example.phoebe.entity.News;
 import com.example.phoebe.entity.Term;
 import com.example.phoebe.entity.User;
+import com.example.phoebe.event.ContentChangeEvent;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.mapper.NewsMapper;
 import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.NewsSummaryRow;
+import com.example.phoebe.repository.NewsTermNameRow;
+import com.example.phoebe.repository.NewsVersionRow;
 import com.example.phoebe.repository.TermRepository;
 import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.TokenPrincipal;
+import com.example.phoebe.service.BulkActions;
 import com.example.phoebe.service.NewsService;
-import org.springframework.cache.annotation.CacheEvict;
+import com.example.phoebe.service.TermPublicationIndexService;
+import com.example.phoebe.value.CacheValidator;
+import com.example.phoebe.value.NewsCursor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class NewsServiceImpl implements NewsService {
 
     private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SYNC_BULK_IDS = 1000;
     private final NewsRepository newsRepository;
     private final UserRepository userRepository;
     private final TermRepository termRepository;
     private final NewsMapper newsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TermPublicationIndexService termPublicationIndex;
 
-    public NewsServiceImpl(NewsRepository newsRepository, UserRepository userRepository, TermRepository termRepository, NewsMapper newsMapper) {
+    public NewsServiceImpl(NewsRepository newsRepository, UserRepository userRepository, TermRepository termRepository,
+                           NewsMapper newsMapper, ApplicationEventPublisher eventPublisher,
+                           TermPublicationIndexService termPublicationIndex) {
         this.newsRepository = newsRepository;
         this.userRepository = userRepository;
         this.termRepository = termRepository;
         this.newsMapper = newsMapper;
+        this.eventPublisher = eventPublisher;
+        this.termPublicationIndex = termPublicationIndex;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<NewsDto> findAllPublished(Pageable pageable) {
-        return newsRepository.findByPublished(true, pageable).map(newsMapper::toDto);
+    public Page<NewsSummaryDto> findAllPublished(Pageable pageable) {
+        return toSummaryPage(newsRepository.findIdPageByPublished(true, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "news-by-id", key = "#id")
+    public CursorPageDto<NewsSummaryDto> findAllPublished(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // One extra row tells whether another page exists without counting
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = newsRepository.findFirstPublishedIds(window);
+        } else {
+            NewsCursor position = NewsCursor.decode(cursor);
+            ids = newsRepository.findPublishedIdsAfter(position.publicationDate(), position.id(), window);
+        }
+
+        boolean hasNext = ids.size() > limit;
+        List<Long> pageIds = hasNext ? ids.subList(0, limit) : ids;
+        if (pageIds.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null, false);
+        }
+
+        List<NewsSummaryDto> content = loadSummaries(pageIds);
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            NewsSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new NewsCursor(last.publicationDate(), last.id()).encode();
+        }
+        return new CursorPageDto<>(content, nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "news-by-id", key = "#id", sync = true)
     public NewsDto findPublishedById(Long id) {
         News news = newsRepository.findByIdAndPublished(id, true)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
@@ -60,28 +118,72 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<NewsDto> findByTermId(Long termId, Pageable pageable) {
-        return newsRepository.findByTermsIdAndPublished(termId, true, pageable).map(newsMapper::toDto);
+    public CacheValidator getPublishedValidator(Long id) {
+        NewsVersionRow row = newsRepository.findPublishedVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
+        Instant lastModified = row.updatedAt() == null ? null
+                : row.updatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        // version is bumped on every update, including renames of the article's terms (usernames cannot change);
+        // updated_at covers rows written before it existed
+        String revision = row.version() != null ? String.valueOf(row.version())
+                : lastModified != null ? "t" + lastModified.toEpochMilli() : "0";
+        return new CacheValidator("\"" + row.id() + "-" + revision + "\"", lastModified);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NewsSummaryDto> findByTermId(Long termId, Pageable pageable) {
+        return toSummaryPage(termPublicationIndex.findPublishedIdPage(List.of(termId), pageable)
+                .orElseGet(() -> newsRepository.findIdPageByTermIdAndPublished(termId, true, pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<NewsDto> findByTermIds(List<Long> termIds, Pageable pageable) {
-        return newsRepository.findByTermsIdInAndPublished(termIds, true, pageable).map(newsMapper::toDto);
+    public Page<NewsSummaryDto> findByTermIds(List<Long> termIds, Pageable pageable) {
+        return toSummaryPage(termPublicationIndex.findPublishedIdPage(termIds, pageable)
+                .orElseGet(() -> newsRepository.findIdPageByTermIdInAndPublished(termIds, true, pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<NewsDto> findAllForUser(Pageable pageable, Authentication authentication) {
+    public Page<NewsSummaryDto> findAllForUser(Pageable pageable, Authentication authentication) {
         if (hasAdminRole(authentication)) {
-            return newsRepository.findAll(pageable).map(newsMapper::toDto);
+            return toSummaryPage(newsRepository.findIdPage(pageable));
         } else if (hasEditorRole(authentication)) {
-            User currentUser = getCurrentUser(authentication);
-            return newsRepository.findByAuthorId(currentUser.getId(), pageable).map(newsMapper::toDto);
+            return toSummaryPage(newsRepository.findIdPageByAuthorId(getCurrentUserId(authentication), pageable));
         }
         return Page.empty();
     }
 
+    /**
+     * Second step of ID-then-fetch pagination: loads listing columns for the page's IDs
+     * and keeps the order and totals of the ID page.
+     */
+    private Page<NewsSummaryDto> toSummaryPage(Page<Long> idPage) {
+        List<NewsSummaryDto> content = idPage.isEmpty() ? List.of() : loadSummaries(idPage.getContent());
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * Two projection queries (columns, then term names) instead of loading entities,
+     * so listings never read article bodies.
+     */
+    private List<NewsSummaryDto> loadSummaries(List<Long> ids) {
+        Map<Long, NewsSummaryRow> rowsById = newsRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(NewsSummaryRow::id, Function.identity()));
+        Map<Long, Set<String>> termNamesById = newsRepository.findTermNamesByNewsIdIn(ids).stream()
+                .collect(Collectors.groupingBy(NewsTermNameRow::newsId,
+                        Collectors.mapping(NewsTermNameRow::termName, Collectors.toCollection(LinkedHashSet::new))));
+        // Rows deleted between the queries are skipped
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(row -> new NewsSummaryDto(row.id(), row.title(), row.teaser(), row.publicationDate(),
+                        row.published(), row.authorId(), row.authorName(),
+                        termNamesById.getOrDefault(row.id(), Set.of())))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public NewsDto findById(Long id, Authentication authentication) {
@@ -109,29 +211,30 @@ public class NewsServiceImpl implements NewsService {
         }
 
         News savedNews = newsRepository.save(news);
+        eventPublisher.publishEvent(ContentChangeEvent.news("news created", List.of(savedNews.getId())));
         return newsMapper.toDto(savedNews);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "news-by-id", key = "#id")
     public NewsDto update(Long id, NewsUpdateRequestDto request, Authentication authentication) {
         News existingNews = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
         verifyOwnershipOrAdmin(authentication, existingNews);
         newsMapper.updateEntityFromDto(request, existingNews);
         // Optimization: No explicit .save() call is needed due to @Transactional and dirty checking.
+        eventPublisher.publishEvent(ContentChangeEvent.news("news updated", List.of(id)));
         return newsMapper.toDto(existingNews);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "news-by-id", key = "#id")
     public void delete(Long id, Authentication authentication) {
         News newsToDelete = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
         verifyOwnershipOrAdmin(authentication, newsToDelete);
         newsRepository.delete(newsToDelete);
+        eventPublisher.publishEvent(ContentChangeEvent.news("news deleted", List.of(id)));
     }
 
     @Override
@@ -144,39 +247,27 @@ public class NewsServiceImpl implements NewsService {
             throw new IllegalArgumentException("Bulk operation must be confirmed");
         }
 
-        List<Long> targetIds = new ArrayList<>();
-        switch (request.getFilterType()) {
-            case BY_IDS:
-                if (request.getItemIds() != null) {
-                    targetIds.addAll(request.getItemIds());
-                }
-                break;
-            case BY_TERM:
-                targetIds.addAll(newsRepository.findIdsByTermId(request.getTermId()));
-                break;
-            case BY_AUTHOR:
-                targetIds.addAll(newsRepository.findIdsByAuthorId(request.getAuthorId()));
-                break;
-            case ALL:
-                targetIds.addAll(newsRepository.findAllIds());
-                break;
-        }
-
-        if (targetIds.isEmpty()) {
+        BulkActions.validate(request);
+        if (request.getFilterType() != BulkActionRequestDto.FilterType.BY_IDS) {
+            // Filters can match the whole archive; those run in chunks as a background job
+            throw new IllegalArgumentException("Filter " + request.getFilterType()
+                    + " must be submitted as a bulk job (POST /api/admin/news/bulk/jobs)");
+        }
+        if (request.getItemIds() == null || request.getItemIds().isEmpty()) {
             return new BulkActionRequestDto.BulkActionResult(0);
         }
-
-        switch (request.getAction()) {
-            case DELETE:
-                // Optimized for performance: uses a single DELETE statement for multiple entities.
-                newsRepository.deleteAllByIdInBatch(targetIds);
-                break;
-            case UNPUBLISH:
-                newsRepository.unpublishByIds(targetIds);
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported bulk action: " + request.getAction());
+        if (request.getItemIds().size() > MAX_SYNC_BULK_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_SYNC_BULK_IDS
+                    + " IDs per request; submit larger selections as a bulk job");
+        }
+        if (BulkActions.isTermAction(request.getAction()) && !termRepository.existsById(request.getTargetTermId())) {
+            throw new ResourceNotFoundException("Term", "id", request.getTargetTermId());
         }
+
+        List<Long> targetIds = new ArrayList<>(request.getItemIds());
+        BulkActions.apply(newsRepository, request, targetIds);
+        // Evicts the affected entries of news-by-id after commit (see NewsCacheInvalidator)
+        eventPublisher.publishEvent(ContentChangeEvent.news("bulk " + request.getAction(), targetIds));
         return new BulkActionRequestDto.BulkActionResult(targetIds.size());
     }
 
@@ -193,8 +284,7 @@ public class NewsServiceImpl implements NewsService {
         if (newsId == null || authentication == null) {
             return false;
         }
-        User currentUser = getCurrentUser(authentication);
-        return newsRepository.existsByIdAndAuthorId(newsId, currentUser.getId());
+        return newsRepository.existsByIdAndAuthorId(newsId, getCurrentUserId(authentication));
     }
 
 
@@ -207,11 +297,21 @@ public class NewsServiceImpl implements NewsService {
     }
 
     private User getCurrentUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof TokenPrincipal tokenPrincipal) {
+            return userRepository.getReferenceById(tokenPrincipal.userId());
+        }
         String username = authentication.getName();
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
     }
 
+    private Long getCurrentUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof TokenPrincipal tokenPrincipal) {
+            return tokenPrincipal.userId();
+        }
+        return getCurrentUser(authentication).getId();
+    }
+
     private boolean hasAuthority(Authentication authentication, String roleName) {
         if (authentication == null) {
             return false;
@@ -225,8 +325,8 @@ public class NewsServiceImpl implements NewsService {
         if (hasAdminRole(authentication)) {
             return;
         }
-        User currentUser = getCurrentUser(authentication);
-        if (news.getAuthor() == null || !news.getAuthor().getId().equals(currentUser.getId())) {
+        Long currentUserId = getCurrentUserId(authentication);
+        if (news.getAuthor() == null || !news.getAuthor().getId().equals(currentUserId)) {
             throw new AccessDeniedException("Access Denied: You are not the author of this article.");
         }
     }
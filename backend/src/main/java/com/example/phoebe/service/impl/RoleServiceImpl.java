@@ -5,11 +5,13 @@ import com.example.phoebe.dto.request.RoleUpdateRequestDto;
 import com.example.phoebe.dto.response.RoleDto;
 import com.example.phoebe.entity.Permission;
 import com.example.phoebe.entity.Role;
+import com.example.phoebe.event.UserAccountChangedEvent;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.mapper.RoleMapper;
 import com.example.phoebe.repository.PermissionRepository;
 import com.example.phoebe.repository.RoleRepository;
 import com.example.phoebe.service.RoleService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,17 +27,20 @@ public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final RoleMapper roleMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoleServiceImpl(RoleRepository roleRepository, PermissionRepository permissionRepository, RoleMapper roleMapper) {
+    public RoleServiceImpl(RoleRepository roleRepository, PermissionRepository permissionRepository, RoleMapper roleMapper,
+                           ApplicationEventPublisher eventPublisher) {
         this.roleRepository = roleRepository;
         this.permissionRepository = permissionRepository;
         this.roleMapper = roleMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RoleDto> getAllRoles() {
-        return roleRepository.findAll().stream()
+        return roleRepository.findAllWithPermissions().stream()
                 .map(roleMapper::toDto)
                 .collect(Collectors.toList());
     }
@@ -68,6 +73,8 @@ public class RoleServiceImpl implements RoleService {
         role.setPermissions(resolvePermissions(dto.getPermissionIds()));
 
         // No explicit save() needed due to @Transactional and dirty checking.
+        // Role changes can affect any holder, so cached authentications are dropped wholesale.
+        eventPublisher.publishEvent(UserAccountChangedEvent.allAccounts());
         return roleMapper.toDto(role);
     }
 
@@ -77,6 +84,7 @@ public class RoleServiceImpl implements RoleService {
             throw new ResourceNotFoundException("Role", "id", id);
         }
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(UserAccountChangedEvent.allAccounts());
     }
 
     @Override
@@ -86,6 +94,7 @@ public class RoleServiceImpl implements RoleService {
         Permission permission = permissionRepository.findById(permissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Permission", "id", permissionId));
         role.addPermission(permission);
+        eventPublisher.publishEvent(UserAccountChangedEvent.allAccounts());
         return roleMapper.toDto(role);
     }
 
@@ -96,6 +105,7 @@ public class RoleServiceImpl implements RoleService {
         Permission permission = permissionRepository.findById(permissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Permission", "id", permissionId));
         role.removePermission(permission);
+        eventPublisher.publishEvent(UserAccountChangedEvent.allAccounts());
         return roleMapper.toDto(role);
     }
 
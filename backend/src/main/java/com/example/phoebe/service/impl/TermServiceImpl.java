@@ -1,21 +1,34 @@
 package com.example.phoebe.service.impl;
 
 import com.example.phoebe.entity.Term;
+import com.example.phoebe.event.ContentChangeEvent;
 import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.TermRepository;
 import com.example.phoebe.service.TermService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 public class TermServiceImpl implements TermService {
 
+    private static final int TOUCH_BATCH_SIZE = 1000;
+
     private final TermRepository termRepository;
+    private final NewsRepository newsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TermServiceImpl(TermRepository termRepository) {
+    public TermServiceImpl(TermRepository termRepository, NewsRepository newsRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.termRepository = termRepository;
+        this.newsRepository = newsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -34,7 +47,17 @@ public class TermServiceImpl implements TermService {
     @Override
     @Transactional
     public Term save(Term term) {
-        return termRepository.save(term);
+        // Read before saving: the merge copies the new state onto the managed instance
+        String previousName = term.getId() == null ? null
+                : termRepository.findById(term.getId()).map(Term::getName).orElse(null);
+        Term saved = termRepository.save(term);
+        // News show term names only; other changes leave cached news and their validators valid
+        if (previousName != null && !previousName.equals(saved.getName())) {
+            List<Long> affectedNewsIds = newsRepository.findIdsByTermId(saved.getId());
+            touchNews(affectedNewsIds);
+            eventPublisher.publishEvent(ContentChangeEvent.news("term updated", affectedNewsIds));
+        }
+        return saved;
     }
 
     @Override
@@ -43,6 +66,21 @@ public class TermServiceImpl implements TermService {
         if (!termRepository.existsById(id)) {
             throw new ResourceNotFoundException("Term", "id", id);
         }
+        // Collect affected news before the join rows are removed by ON DELETE CASCADE
+        List<Long> affectedNewsIds = newsRepository.findIdsByTermId(id);
         termRepository.deleteById(id);
+        touchNews(affectedNewsIds);
+        eventPublisher.publishEvent(ContentChangeEvent.news("term deleted", affectedNewsIds));
+    }
+
+    /**
+     * Term names are part of the news representation, so the conditional GET validators of the
+     * affected news must change with them.
+     */
+    private void touchNews(List<Long> newsIds) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < newsIds.size(); from += TOUCH_BATCH_SIZE) {
+            newsRepository.touchByIds(newsIds.subList(from, Math.min(from + TOUCH_BATCH_SIZE, newsIds.size())), now);
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.example.phoebe.value;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Validators of a representation for conditional GET.
+ *
+ * @param etag         strong entity tag, quoted
+ * @param lastModified last modification time, or null when unknown
+ */
+public record CacheValidator(
+        String etag,
+        Instant lastModified
+) {
+
+    /**
+     * Builds a validator whose strong ETag is a hash of the given values, for state without a version column.
+     */
+    public static CacheValidator ofContent(Instant lastModified, Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(part == null ? new byte[]{1} : String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return new CacheValidator("\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"", lastModified);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
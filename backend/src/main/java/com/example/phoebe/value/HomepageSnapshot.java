@@ -0,0 +1,18 @@
+package com.example.phoebe.value;
+
+import java.time.Instant;
+
+/**
+ * Immutable, pre-serialized homepage response.
+ *
+ * @param version monotonically increasing snapshot number on this node
+ * @param etag    strong entity tag derived from the serialized body
+ * @param body    JSON representation of the homepage, ready to be written to the response
+ * @param builtAt moment the snapshot was rendered
+ */
+public record HomepageSnapshot(
+        long version,
+        String etag,
+        byte[] body,
+        Instant builtAt
+) {}
@@ -0,0 +1,5 @@
+-- V16: Add optimistic-lock version columns to the singleton settings tables.
+-- Replicas poll these versions to notice changes made elsewhere and refresh their in-memory copies.
+
+ALTER TABLE channel_settings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE homepage_settings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,20 @@
+-- Tables used by the Java Drupal 6 migration (app.drupal6-migration).
+
+-- Progress of each migration step. A step resumes after last_source_id; completed steps are skipped.
+CREATE TABLE migration_checkpoint (
+    step           VARCHAR(100) PRIMARY KEY,
+    last_source_id BIGINT       NOT NULL,
+    rows_loaded    BIGINT       NOT NULL,
+    completed      BOOLEAN      NOT NULL DEFAULT FALSE,
+    updated_at     TIMESTAMP    NOT NULL
+);
+
+-- Values of Drupal CCK fields as key/value pairs per article
+CREATE TABLE custom_fields (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_id  BIGINT       NOT NULL,
+    field_name  VARCHAR(255) NOT NULL,
+    field_value TEXT,
+    UNIQUE KEY uk_custom_fields_content_field (content_id, field_name),
+    FOREIGN KEY (content_id) REFERENCES content (id) ON DELETE CASCADE
+);
@@ -0,0 +1,9 @@
+-- Shared rate-limit bucket state for app.rate-limit.backend=jdbc (Bucket4j JDBC proxy manager).
+-- state holds Bucket4j's serialized bucket; expires_at (epoch millis) lets stale rows be purged.
+CREATE TABLE rate_limit_bucket (
+    id         VARCHAR(64) NOT NULL PRIMARY KEY,
+    state      BYTEA,
+    expires_at BIGINT
+);
+
+CREATE INDEX idx_rate_limit_bucket_expires_at ON rate_limit_bucket (expires_at);
@@ -0,0 +1,11 @@
+-- Cluster-wide log of committed content changes. Each replica appends its changes in the writing
+-- transaction and polls for rows from other replicas to invalidate its local caches.
+CREATE TABLE content_change_log (
+    id         BIGSERIAL    PRIMARY KEY,
+    node_id    VARCHAR(36)  NOT NULL,
+    source     VARCHAR(100) NOT NULL,
+    news_ids   TEXT,
+    created_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_content_change_log_created_at ON content_change_log (created_at);
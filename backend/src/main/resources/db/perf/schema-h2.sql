@@ -0,0 +1,9 @@
+-- Tables without a JPA entity, for the perf profile (Hibernate creates the rest).
+CREATE TABLE IF NOT EXISTS content_change_log (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node_id    VARCHAR(36)  NOT NULL,
+    source     VARCHAR(100) NOT NULL,
+    news_ids   TEXT,
+    created_at TIMESTAMP    NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_content_change_log_created_at ON content_change_log (created_at);
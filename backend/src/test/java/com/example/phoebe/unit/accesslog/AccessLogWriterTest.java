@@ -0,0 +1,90 @@
+package com.example.phoebe.accesslog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackWhatWasWritten() throws IOException {
+        List<AccessLogEntry> entries = List.of(
+                new AccessLogEntry(1_700_000_000_000L, "GET", "/api/public/news", "page=3&size=20",
+                        AccessLogEntry.Role.ANONYMOUS, 200, 1_250),
+                new AccessLogEntry(1_700_000_000_040L, "DELETE", "/api/admin/news/17", null,
+                        AccessLogEntry.Role.ADMIN, 204, 48_000),
+                new AccessLogEntry(1_700_000_003_000L, "PROPFIND", "/", null,
+                        AccessLogEntry.Role.EDITOR, 405, 90));
+
+        try (AccessLogWriter writer = new AccessLogWriter(directory, 16, 1024 * 1024)) {
+            entries.forEach(writer::record);
+        }
+
+        assertEquals(entries, readAll(directory));
+    }
+
+    @Test
+    void shouldRollOverFilesAndReadThemInOrder() throws IOException {
+        List<AccessLogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(new AccessLogEntry(1_700_000_000_000L + i, "GET", "/api/public/news/" + i, null,
+                    AccessLogEntry.Role.ANONYMOUS, 200, i));
+        }
+
+        try (AccessLogWriter writer = new AccessLogWriter(directory, 1000, 2048)) {
+            entries.forEach(writer::record);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1);
+        }
+        assertEquals(entries, readAll(directory));
+    }
+
+    @Test
+    void shouldStopAtTruncatedEntry() throws IOException {
+        try (AccessLogWriter writer = new AccessLogWriter(directory, 16, 1024 * 1024)) {
+            writer.record(new AccessLogEntry(1L, "GET", "/a", null, AccessLogEntry.Role.ANONYMOUS, 200, 1));
+            writer.record(new AccessLogEntry(2L, "GET", "/b", null, AccessLogEntry.Role.ANONYMOUS, 200, 1));
+        }
+        Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 3));
+
+        assertEquals(1, readAll(file).size());
+    }
+
+    @Test
+    void shouldCountEntriesRecordedAfterClose() {
+        AccessLogWriter writer = new AccessLogWriter(directory, 16, 1024 * 1024);
+        writer.close();
+
+        writer.record(new AccessLogEntry(1L, "GET", "/", null, AccessLogEntry.Role.ANONYMOUS, 200, 1));
+
+        assertEquals(1, writer.dropped());
+    }
+
+    private static List<AccessLogEntry> readAll(Path source) throws IOException {
+        List<AccessLogEntry> read = new ArrayList<>();
+        try (AccessLogReader reader = new AccessLogReader(source)) {
+            reader.forEachRemaining(read::add);
+        }
+        return read;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.phoebe.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    @Test
+    void shouldApplyOwnSpecPerCacheAndDefaultToOthers() {
+        CaffeineCacheManager cacheManager = CacheConfig.createCacheManager(
+                new CacheSpecProperties("maximumSize=100", Map.of("small", "maximumSize=5")), Map.of());
+
+        assertEquals(5, maximumSize(cacheManager.getCache("small")));
+        assertEquals(100, maximumSize(cacheManager.getCache("other")));
+    }
+
+    @Test
+    void shouldUseBuiltInDefaultWithoutConfiguration() {
+        CaffeineCacheManager cacheManager = CacheConfig.createCacheManager(new CacheSpecProperties(null, null), Map.of());
+
+        assertEquals(1000, maximumSize(cacheManager.getCache("news-by-id")));
+    }
+
+    @Test
+    void shouldRefreshEntriesThroughRegisteredLoader() {
+        AtomicInteger loads = new AtomicInteger();
+        CacheRefreshLoader loader = new CacheRefreshLoader() {
+            @Override
+            public String cacheName() {
+                return "hot";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return "v" + loads.incrementAndGet();
+            }
+        };
+        CaffeineCacheManager cacheManager = CacheConfig.createCacheManager(
+                new CacheSpecProperties(null, Map.of("hot", "maximumSize=10,refreshAfterWrite=1m")), Map.of("hot", loader));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("hot");
+        cache.put(1L, "v0");
+
+        LoadingCache<Object, Object> nativeCache = assertInstanceOf(LoadingCache.class, cache.getNativeCache());
+        assertTrue(nativeCache.policy().refreshAfterWrite().isPresent());
+        nativeCache.refresh(1L).join();
+
+        assertEquals("v1", cache.get(1L, String.class));
+    }
+
+    @Test
+    void shouldRejectRefreshWithoutLoader() {
+        CacheSpecProperties properties = new CacheSpecProperties(null, Map.of("hot", "refreshAfterWrite=1m"));
+
+        assertThrows(IllegalStateException.class, () -> CacheConfig.createCacheManager(properties, Map.of()));
+    }
+
+    @Test
+    void concurrentMissesShouldLoadOnce() throws Exception {
+        Cache cache = CacheConfig.createCacheManager(new CacheSpecProperties(null, null), Map.of()).getCache("news-by-id");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(42L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return "loaded";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    private static long maximumSize(Cache cache) {
+        CaffeineCache caffeineCache = (CaffeineCache) cache;
+        return caffeineCache.getNativeCache().policy().eviction().orElseThrow().getMaximum();
+    }
+}
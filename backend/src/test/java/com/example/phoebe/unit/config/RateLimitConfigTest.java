@@ -1,9 +1,12 @@
 package com.example.phoebe.config;
 
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -109,4 +112,33 @@ class RateLimitConfigTest {
         assertTrue(consumed);
         assertEquals(49, bucket.getAvailableTokens());
     }
-}
\ No newline at end of file
+
+    @Test
+    void bucketStoreShouldStayWithinMaxSize() {
+        RateLimitConfig bounded = new RateLimitConfig(100, Duration.ofMinutes(10));
+
+        for (int i = 0; i < 1_000; i++) {
+            bounded.getPublicBucket("10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        assertTrue(bounded.getBucketCount() <= 100);
+        assertTrue(bounded.getEvictionCount() >= 900);
+    }
+
+    @Test
+    void decisionsShouldBePublishedByBucketTypeAndResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rateLimitConfig.rateLimitBucketMetrics().bindTo(registry);
+
+        rateLimitConfig.recordDecision(RateLimitConfig.Limit.PUBLIC, true);
+        rateLimitConfig.recordDecision(RateLimitConfig.Limit.PUBLIC, true);
+        rateLimitConfig.recordDecision(RateLimitConfig.Limit.AUTH, false);
+
+        assertEquals(2, registry.get("ratelimit.requests")
+                .tags("bucket", "public", "result", "allowed").functionCounter().count());
+        assertEquals(1, registry.get("ratelimit.requests")
+                .tags("bucket", "auth", "result", "rejected").functionCounter().count());
+        assertEquals(0, registry.get("ratelimit.requests")
+                .tags("bucket", "admin", "result", "rejected").functionCounter().count());
+    }
+}
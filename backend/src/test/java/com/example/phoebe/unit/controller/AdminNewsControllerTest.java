@@ -5,7 +5,11 @@ import com.example.phoebe.controller.AdminNewsController;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
 import com.example.phoebe.dto.request.NewsCreateRequestDto;
 import com.example.phoebe.dto.request.NewsUpdateRequestDto;
+import com.example.phoebe.dto.response.BulkActionJobDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsImportResultDto;
+import com.example.phoebe.service.BulkActionJobService;
+import com.example.phoebe.service.NewsImportService;
 import com.example.phoebe.service.NewsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 
@@ -32,6 +40,12 @@ class AdminNewsControllerTest {
     @Mock
     private NewsService newsService;
 
+    @Mock
+    private BulkActionJobService bulkActionJobService;
+
+    @Mock
+    private NewsImportService newsImportService;
+
     @Mock
     private Authentication auth;
 
@@ -55,6 +69,16 @@ class AdminNewsControllerTest {
         );
     }
 
+    @Test
+    void findByIdShouldReturnFullArticle() {
+        when(newsService.findById(1L, auth)).thenReturn(sampleNewsDto);
+
+        NewsDto result = controller.findById(1L, auth);
+
+        assertEquals("Test Content", result.getBody());
+        verify(newsService).findById(1L, auth);
+    }
+
     @Test
     void createShouldReturnCreatedNews() {
         NewsCreateRequestDto createRequest = new NewsCreateRequestDto();
@@ -99,4 +123,29 @@ class AdminNewsControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(5, response.getBody().getAffectedCount());
     }
+
+    @Test
+    void submitBulkJobShouldReturnAcceptedWithJobLocation() {
+        BulkActionRequestDto request = new BulkActionRequestDto();
+        BulkActionJobDto job = new BulkActionJobDto("job-1", BulkActionRequestDto.ActionType.UNPUBLISH,
+                BulkActionRequestDto.FilterType.ALL, BulkActionJobDto.Status.QUEUED, null, 0, 0, "admin",
+                Instant.now(), null, null, null);
+        when(auth.getName()).thenReturn("admin");
+        when(bulkActionJobService.submit(request, "admin")).thenReturn(job);
+
+        ResponseEntity<BulkActionJobDto> response = controller.submitBulkJob(request, auth);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/api/admin/news/bulk/jobs/job-1", response.getHeaders().getLocation().toString());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void importNewsShouldDelegateToImportService() throws IOException {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        NewsImportResultDto result = new NewsImportResultDto(0, 0, 0, Collections.emptyList(), false);
+        when(newsImportService.importNdjson(body, auth)).thenReturn(result);
+
+        assertEquals(result, controller.importNews(body, auth));
+    }
 }
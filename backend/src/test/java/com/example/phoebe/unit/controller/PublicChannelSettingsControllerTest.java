@@ -1,17 +1,24 @@
 package com.example.phoebe.unit.controller;
 
+import com.example.phoebe.config.HttpCacheProperties;
 import com.example.phoebe.controller.PublicChannelSettingsController;
 import com.example.phoebe.dto.response.ChannelSettingsDto;
 import com.example.phoebe.service.ChannelSettingsService;
+import com.example.phoebe.value.CacheValidator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,9 +27,13 @@ class PublicChannelSettingsControllerTest {
     @Mock
     private ChannelSettingsService channelSettingsService;
 
-    @InjectMocks
     private PublicChannelSettingsController controller;
 
+    @BeforeEach
+    void setUp() {
+        controller = new PublicChannelSettingsController(channelSettingsService, new HttpCacheProperties(null));
+    }
+
     @Test
     void getChannelSettingsShouldReturnPublicSettings() {
         ChannelSettingsDto settingsDto = new ChannelSettingsDto(
@@ -35,11 +46,27 @@ class PublicChannelSettingsControllerTest {
                 "[]",
                 "http://public.com"
         );
+        when(channelSettingsService.getSettingsValidator()).thenReturn(new CacheValidator("\"abc\"", null));
         when(channelSettingsService.getSettings()).thenReturn(settingsDto);
 
-        ResponseEntity<ChannelSettingsDto> response = controller.getChannelSettings();
+        ResponseEntity<ChannelSettingsDto> response = controller.getChannelSettings(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/public/channel-settings")));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Public Channel", response.getBody().siteTitle());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertEquals("no-cache, public", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getChannelSettingsShouldReturnNotModifiedForMatchingEtag() {
+        when(channelSettingsService.getSettingsValidator()).thenReturn(new CacheValidator("\"abc\"", null));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/channel-settings");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"abc\"");
+
+        ResponseEntity<ChannelSettingsDto> response = controller.getChannelSettings(new ServletWebRequest(request));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(channelSettingsService, never()).getSettings();
     }
 }
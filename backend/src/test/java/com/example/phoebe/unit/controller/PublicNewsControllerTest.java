@@ -1,24 +1,40 @@
 package com.example.phoebe.unit.controller;
 
+import com.example.phoebe.config.HttpCacheProperties;
 import com.example.phoebe.controller.PublicNewsController;
 
+import com.example.phoebe.dto.response.CursorPageDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
 import com.example.phoebe.service.NewsService;
+import com.example.phoebe.value.CacheValidator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,15 +43,20 @@ class PublicNewsControllerTest {
     @Mock
     private NewsService newsService;
 
-    @InjectMocks
     private PublicNewsController controller;
 
+    @BeforeEach
+    void setUp() {
+        HttpCacheProperties httpCacheProperties = new HttpCacheProperties(
+                Map.of(HttpCacheProperties.NEWS, new HttpCacheProperties.Policy(Duration.ofSeconds(60), null)));
+        controller = new PublicNewsController(newsService, httpCacheProperties);
+    }
+
     @Test
     void findAllPublishedShouldReturnPageOfNews() {
-        NewsDto newsDto = new NewsDto(
+        NewsSummaryDto summary = new NewsSummaryDto(
             1L,
             "Public Title",
-            "Public Content",
             null,
             LocalDateTime.now(),
             true,
@@ -43,13 +64,22 @@ class PublicNewsControllerTest {
             "author",
             Collections.emptySet()
         );
-        Page<NewsDto> page = new PageImpl<>(List.of(newsDto));
+        Page<NewsSummaryDto> page = new PageImpl<>(List.of(summary));
         when(newsService.findAllPublished(any())).thenReturn(page);
 
-        Page<NewsDto> result = controller.findAllPublished(PageRequest.of(0, 10));
+        Page<NewsSummaryDto> result = controller.findAllPublished(PageRequest.of(0, 10));
 
         assertEquals(1, result.getTotalElements());
-        assertEquals("Public Title", result.getContent().get(0).getTitle());
+        assertEquals("Public Title", result.getContent().get(0).title());
+    }
+
+    @Test
+    void findByTermIdShouldDelegateToService() {
+        PageRequest pageable = PageRequest.of(0, 15);
+        Page<NewsSummaryDto> page = new PageImpl<>(List.of());
+        when(newsService.findByTermId(5L, pageable)).thenReturn(page);
+
+        assertEquals(page, controller.findByTermId(5L, pageable));
     }
 
     @Test
@@ -65,10 +95,52 @@ class PublicNewsControllerTest {
             "author",
             Collections.emptySet()
         );
+        when(newsService.getPublishedValidator(1L)).thenReturn(new CacheValidator("\"1-3\"", Instant.now()));
         when(newsService.findPublishedById(1L)).thenReturn(newsDto);
 
-        NewsDto result = controller.findPublishedById(1L);
+        ResponseEntity<NewsDto> result = controller.findPublishedById(1L,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/public/news/1")));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("Single News", result.getBody().getTitle());
+        assertEquals("\"1-3\"", result.getHeaders().getETag());
+        assertEquals("max-age=60, public", result.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void findPublishedByIdShouldReturnNotModifiedWithoutLoadingNews() {
+        when(newsService.getPublishedValidator(1L)).thenReturn(new CacheValidator("\"1-3\"", Instant.now()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1-2\", \"1-3\"");
+
+        ResponseEntity<NewsDto> result = controller.findPublishedById(1L, new ServletWebRequest(request));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        verify(newsService, never()).findPublishedById(1L);
+    }
+
+    @Test
+    void findPublishedByIdShouldHonourIfModifiedSince() {
+        Instant updated = Instant.parse("2024-05-01T10:00:00.500Z");
+        when(newsService.getPublishedValidator(1L)).thenReturn(new CacheValidator("\"1-3\"", updated));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 May 2024 10:00:00 GMT");
+
+        ResponseEntity<NewsDto> result = controller.findPublishedById(1L, new ServletWebRequest(request));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        verify(newsService, never()).findPublishedById(1L);
+    }
+
+    @Test
+    void findAllPublishedByCursorShouldDelegateToService() {
+        CursorPageDto<NewsSummaryDto> page = new CursorPageDto<>(Collections.emptyList(), "next-token", true);
+        when(newsService.findAllPublished("token", 20)).thenReturn(page);
+
+        CursorPageDto<NewsSummaryDto> result = controller.findAllPublishedByCursor("token", 20);
 
-        assertEquals("Single News", result.getTitle());
+        assertEquals("next-token", result.nextCursor());
+        assertTrue(result.hasNext());
     }
 }
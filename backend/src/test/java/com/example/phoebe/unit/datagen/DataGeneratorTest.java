@@ -0,0 +1,75 @@
+package com.example.phoebe.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataGeneratorTest {
+
+    @Test
+    void shouldPickDistinctTermsWithinBounds() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10_000; i++) {
+            int[] picked = DataGenerator.pickTerms(random, 100, 5);
+
+            assertTrue(picked.length >= 1 && picked.length <= 5);
+            assertEquals(picked.length, Arrays.stream(picked).distinct().count());
+            assertTrue(Arrays.stream(picked).allMatch(index -> index >= 0 && index < 100));
+        }
+    }
+
+    @Test
+    void shouldSkewTermUsageTowardsPopularTerms() {
+        SplittableRandom random = new SplittableRandom(2);
+        int[] usage = new int[1000];
+        int links = 0;
+        for (int i = 0; i < 20_000; i++) {
+            for (int index : DataGenerator.pickTerms(random, usage.length, 5)) {
+                usage[index]++;
+                links++;
+            }
+        }
+
+        int topTenPercent = Arrays.stream(usage, 0, 100).sum();
+        assertTrue(topTenPercent > links / 3, "top 10% of terms should carry a large share of links");
+    }
+
+    @Test
+    void shouldNotPickMoreTermsThanExist() {
+        int[] picked = DataGenerator.pickTerms(new SplittableRandom(3), 2, 5);
+
+        assertTrue(picked.length <= 2);
+    }
+
+    @Test
+    void shouldGenerateSameTextForSameSeed() {
+        String first = DataGenerator.paragraph(new SplittableRandom(42), 2);
+        String second = DataGenerator.paragraph(new SplittableRandom(42), 2);
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("<p>") && first.endsWith("</p>"));
+        assertEquals(2, first.split("<p>").length - 1);
+        assertFalse(first.contains("<script"));
+    }
+
+    @Test
+    void shouldKeepHomepageBlockTermsWithinSmallTermCounts() {
+        for (int terms = 0; terms <= 20; terms++) {
+            for (int weight = 0; weight < 8; weight++) {
+                int termCount = terms;
+                int[] indexes = DataGenerator.blockTermIndexes(weight, 8, termCount);
+
+                assertTrue(Arrays.stream(indexes).allMatch(index -> index >= 0 && index < termCount),
+                        "terms=" + terms + ", weight=" + weight);
+                assertEquals(terms == 0, indexes.length == 0);
+            }
+        }
+        assertEquals(2, DataGenerator.blockTermIndexes(2, 8, 20).length);
+        assertEquals(1, DataGenerator.blockTermIndexes(2, 8, 10).length);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.accesslog.AccessLogEntry;
+import com.example.phoebe.accesslog.AccessLogWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AccessLogFilterTest {
+
+    private final AccessLogWriter writer = mock(AccessLogWriter.class);
+    private final AccessLogFilter filter = new AccessLogFilter(writer);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRecordRequestWithStatusAndRole() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        request.setQueryString("page=2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    "admin", null, AuthorityUtils.createAuthorityList("ROLE_EDITOR", "ROLE_ADMIN")));
+            ((MockHttpServletResponse) res).setStatus(403);
+        });
+
+        ArgumentCaptor<AccessLogEntry> captor = ArgumentCaptor.forClass(AccessLogEntry.class);
+        verify(writer).record(captor.capture());
+        AccessLogEntry entry = captor.getValue();
+        assertEquals("GET", entry.method());
+        assertEquals("/api/admin/users", entry.path());
+        assertEquals("page=2", entry.query());
+        assertEquals(AccessLogEntry.Role.ADMIN, entry.role());
+        assertEquals(403, entry.status());
+        assertTrue(entry.durationMicros() >= 0);
+    }
+
+    @Test
+    void shouldClassifyCallers() {
+        assertEquals(AccessLogEntry.Role.ANONYMOUS, AccessLogFilter.currentRole());
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertEquals(AccessLogEntry.Role.ANONYMOUS, AccessLogFilter.currentRole());
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "editor", null, AuthorityUtils.createAuthorityList("ROLE_EDITOR")));
+        assertEquals(AccessLogEntry.Role.EDITOR, AccessLogFilter.currentRole());
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "reader", null, AuthorityUtils.createAuthorityList("ROLE_READER")));
+        assertEquals(AccessLogEntry.Role.AUTHENTICATED, AccessLogFilter.currentRole());
+    }
+}
@@ -84,6 +84,7 @@ class RateLimitFilterTest {
         verify(response).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         verify(response).setContentType("application/json");
         verify(filterChain, never()).doFilter(request, response);
+        verify(rateLimitConfig).recordDecision(RateLimitConfig.Limit.PUBLIC, false);
     }
 
     @Test
@@ -99,6 +100,7 @@ class RateLimitFilterTest {
 
         verify(rateLimitConfig).getAdminBucket("192.168.1.1");
         verify(rateLimitConfig, never()).getPublicBucket(anyString());
+        verify(rateLimitConfig).recordDecision(RateLimitConfig.Limit.ADMIN, true);
     }
 
     @Test
@@ -0,0 +1,75 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.config.SqlStatsProperties;
+import com.example.phoebe.monitoring.SqlRecordingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlStatsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldPublishMetricsAndFlagRepeatedStatements() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(new SqlStatsProperties(false, 2), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/roles");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/admin/roles");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, executing(3));
+
+        assertEquals(3, meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/admin/roles").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("http.server.requests.sql.repeated").counter().count());
+        assertNull(response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void shouldAddHeadersWhenEnabled() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(new SqlStatsProperties(true, null), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            executing(2).doFilter(req, res);
+            res.getWriter().write("[]");
+        });
+
+        assertEquals("2", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        assertEquals("0", response.getHeader(SqlStatsFilter.ROWS_HEADER));
+        assertEquals("[]", response.getContentAsString());
+        assertNull(meterRegistry.find("http.server.requests.sql.repeated").counter());
+    }
+
+    private static FilterChain executing(int statements) throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        DataSource dataSource = new SqlRecordingDataSource(target);
+        return (request, response) -> {
+            try (Connection recorded = dataSource.getConnection()) {
+                for (int i = 0; i < statements; i++) {
+                    recorded.prepareStatement("select * from permissions where role_id = ?").executeQuery();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
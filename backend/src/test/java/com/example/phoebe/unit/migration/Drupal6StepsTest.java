@@ -0,0 +1,74 @@
+package com.example.phoebe.migration;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class Drupal6StepsTest {
+
+    @Test
+    void toUserShouldReplaceMissingEmailAndTruncateName() {
+        Object[] user = Drupal6Steps.toUser(
+                new Drupal6Steps.DrupalUser(7L, "x".repeat(80), " ", true), "!migrated");
+
+        assertEquals(7L, user[0]);
+        assertEquals(Drupal6Steps.MAX_USERNAME_LENGTH, ((String) user[1]).length());
+        assertEquals("user7@migrated.local", user[2]);
+        assertEquals("!migrated", user[3]);
+        assertEquals(true, user[4]);
+    }
+
+    @Test
+    void toContentShouldFallBackToDefaultAuthorAndConvertUnixTimes() {
+        List<Drupal6Steps.DrupalNode> nodes = List.of(
+                new Drupal6Steps.DrupalNode(1L, 5L, "Known author", true, 1_000L, 2_000L, "Body", null),
+                new Drupal6Steps.DrupalNode(2L, 0L, "t".repeat(60), false, 1_000L, 1_000L, null, "Teaser"));
+
+        List<Object[]> rows = Drupal6Steps.toContent(nodes, (table, ids) -> Set.of(5L), 999L);
+
+        assertEquals(5L, rows.get(0)[9]);
+        assertEquals(Timestamp.from(Instant.ofEpochSecond(1_000L)), rows.get(0)[4]);
+        assertEquals(Timestamp.from(Instant.ofEpochSecond(2_000L)), rows.get(0)[7]);
+        assertEquals(999L, rows.get(1)[9]);
+        assertEquals(Drupal6Steps.MAX_TITLE_LENGTH, ((String) rows.get(1)[1]).length());
+        assertNull(rows.get(1)[2]);
+    }
+
+    @Test
+    void toContentTermsShouldDropLinksToMissingArticlesOrTerms() {
+        List<Drupal6Steps.DrupalTermLink> links = List.of(
+                new Drupal6Steps.DrupalTermLink(1L, 10L),
+                new Drupal6Steps.DrupalTermLink(1L, 11L),
+                new Drupal6Steps.DrupalTermLink(2L, 10L));
+        TargetLookup lookup = (table, ids) -> "content".equals(table) ? Set.of(1L) : Set.of(10L);
+
+        List<Object[]> rows = Drupal6Steps.toContentTerms(links, lookup);
+
+        assertEquals(1, rows.size());
+        assertArrayEquals(new Object[] {1L, 10L}, rows.get(0));
+    }
+
+    @Test
+    void toCustomFieldsShouldUnpivotNonNullValues() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("field_subtitle_value", "Subtitle");
+        values.put("field_image_fid", null);
+        List<Drupal6Steps.CckRow> rows = List.of(
+                new Drupal6Steps.CckRow(1L, values),
+                new Drupal6Steps.CckRow(2L, Map.of("field_subtitle_value", "Orphan")));
+
+        List<Object[]> fields = Drupal6Steps.toCustomFields(rows, (table, ids) -> Set.of(1L));
+
+        assertEquals(1, fields.size());
+        assertArrayEquals(new Object[] {1L, "field_subtitle_value", "Subtitle"}, fields.get(0));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.phoebe.migration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MigrationCheckpointsTest {
+
+    @Test
+    void frontierShouldOnlyAdvanceOverGapFreeBatches() {
+        MigrationCheckpoints.Frontier frontier =
+                new MigrationCheckpoints.Frontier(new MigrationCheckpoints.Checkpoint(100L, 50L, false));
+
+        // Batch 1 finishes before batch 0: position must stay behind the missing batch
+        assertNull(frontier.complete(1L, 300L, 10L));
+        assertEquals(100L, frontier.position().lastSourceId());
+
+        MigrationCheckpoints.Checkpoint advanced = frontier.complete(0L, 200L, 20L);
+
+        assertEquals(300L, advanced.lastSourceId());
+        assertEquals(80L, advanced.rowsLoaded());
+        assertEquals(advanced, frontier.position());
+    }
+}
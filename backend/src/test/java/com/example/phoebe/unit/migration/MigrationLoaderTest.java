@@ -0,0 +1,20 @@
+package com.example.phoebe.migration;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MigrationLoaderTest {
+
+    @Test
+    void toTsvFieldShouldEscapeForLoadData() {
+        assertEquals("\\N", MigrationLoader.toTsvField(null));
+        assertEquals("1", MigrationLoader.toTsvField(true));
+        assertEquals("2024-01-02 03:04:00",
+                MigrationLoader.toTsvField(Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4))));
+        assertEquals("a\\tb\\nc\\\\d", MigrationLoader.toTsvField("a\tb\nc\\d"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.phoebe.monitoring.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(Duration.ofSeconds(10));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnRecordingWithApplicationEvents() throws Exception {
+        CompletableFuture<WebEndpointResponse<Resource>> response =
+                CompletableFuture.supplyAsync(() -> endpoint.record(2, "profile"));
+        awaitRecordingStarted();
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        event.cache = "news-by-id";
+        event.kind = "miss";
+        event.found = true;
+        event.commit();
+
+        WebEndpointResponse<Resource> result = response.get();
+
+        assertEquals(WebEndpointResponse.STATUS_OK, result.getStatus());
+        Path file = directory.resolve("recording.jfr");
+        Files.write(file, result.getBody().getContentAsByteArray());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(events.stream().anyMatch(recorded -> recorded.getEventType().getName().equals("phoebe.CacheLoad")
+                && "news-by-id".equals(recorded.getString("cache"))));
+        assertTrue(events.stream().anyMatch(recorded -> recorded.getEventType().getName().equals("jdk.ExecutionSample")
+                || recorded.getEventType().getName().equals("jdk.CPULoad")));
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() {
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.record(0, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.record(11, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.record(1, "no-such-settings").getStatus());
+    }
+
+    @Test
+    void shouldAllowOneRecordingAtATime() throws Exception {
+        CompletableFuture<WebEndpointResponse<Resource>> first =
+                CompletableFuture.supplyAsync(() -> endpoint.record(2, null));
+        awaitRecordingStarted();
+
+        assertEquals(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS, endpoint.record(1, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_OK, first.get().getStatus());
+    }
+
+    /**
+     * Waits until the endpoint's recording runs, so the test does not depend on thread scheduling.
+     */
+    private static void awaitRecordingStarted() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .noneMatch(recording -> recording.getName().equals("phoebe-on-demand")
+                        && recording.getState() == RecordingState.RUNNING)) {
+            assertFalse(System.nanoTime() > deadline, "recording did not start");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.phoebe.monitoring;
+
+import com.example.phoebe.mapper.PermissionMapper;
+import com.example.phoebe.repository.PermissionRepository;
+import com.example.phoebe.service.PermissionService;
+import com.example.phoebe.service.impl.PermissionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PermissionRepository permissionRepository = mock(PermissionRepository.class);
+    private PermissionService service;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new PermissionServiceImpl(permissionRepository, mock(PermissionMapper.class)));
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void shouldTimeServiceMethodsByClassAndMethod() {
+        when(permissionRepository.existsByName("news:edit")).thenReturn(true);
+
+        assertTrue(service.existsByName("news:edit"));
+        service.existsByName("news:delete");
+
+        assertEquals(2, registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tags("class", "PermissionServiceImpl", "method", "existsByName", "exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    void shouldTagThrownExceptionType() {
+        when(permissionRepository.existsByName("broken")).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> service.existsByName("broken"));
+
+        assertEquals(1, registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tags("method", "existsByName", "exception", "IllegalStateException")
+                .timer().count());
+    }
+}
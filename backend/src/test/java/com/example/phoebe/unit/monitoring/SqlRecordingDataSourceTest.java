@@ -0,0 +1,73 @@
+package com.example.phoebe.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlRecordingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final SqlRecordingDataSource dataSource = new SqlRecordingDataSource(target);
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementRecorder.stop();
+    }
+
+    @Test
+    void shouldCountStatementsAndRowsOfRecordingThread() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        SqlRequestStats stats = SqlStatementRecorder.start();
+
+        try (Connection recorded = dataSource.getConnection()) {
+            for (long id = 1; id <= 3; id++) {
+                PreparedStatement query = recorded.prepareStatement("select * from role_permissions where role_id = " + id);
+                ResultSet rows = query.executeQuery();
+                while (rows.next()) {
+                    rows.getLong(1);
+                }
+            }
+        }
+
+        assertEquals(3, stats.statements());
+        assertEquals(2, stats.rows());
+        assertEquals(List.of(Map.entry("select * from role_permissions where role_id = ?", 3)),
+                stats.repeatedMoreThan(2));
+        assertTrue(stats.repeatedMoreThan(3).isEmpty());
+    }
+
+    @Test
+    void shouldReturnPoolConnectionWhenThreadIsNotRecording() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+    }
+
+    @Test
+    void shouldReduceSqlToShape() {
+        assertEquals("select n.id from content n where n.id in (?) and n.title = ? limit ?",
+                SqlShapes.shapeOf("select n.id from content n\n where n.id in (?, ?,?) and n.title = 'it''s' limit 10"));
+        assertEquals("select t1_0.id from terms t1_0 where t1_0.id=?",
+                SqlShapes.shapeOf("select t1_0.id from terms t1_0 where t1_0.id=?"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.phoebe.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientKeyTest {
+
+    private static final byte SCOPE = 1;
+
+    @Test
+    void ipv4ShouldBeStoredAsMappedAddress() {
+        ClientKey key = ClientKey.of(SCOPE, "192.168.1.10");
+
+        assertEquals(ClientKey.KIND_IP, key.kind());
+        assertEquals(0L, key.hi());
+        assertEquals(0x0000_FFFF_C0A8_010AL, key.lo());
+        assertEquals(key, ClientKey.of(SCOPE, "::ffff:192.168.1.10"));
+    }
+
+    @Test
+    void equivalentIpv6SpellingsShouldShareOneKey() {
+        ClientKey full = ClientKey.of(SCOPE, "2001:0db8:0000:0000:0000:0000:0000:0001");
+
+        assertEquals(full, ClientKey.of(SCOPE, "2001:db8::1"));
+        assertEquals(full, ClientKey.of(SCOPE, "[2001:DB8::1]"));
+        assertEquals(ClientKey.of(SCOPE, "fe80::1"), ClientKey.of(SCOPE, "fe80::1%eth0"));
+        assertEquals(1L, ClientKey.of(SCOPE, "::1").lo());
+    }
+
+    @Test
+    void scopesShouldBeKeptApart() {
+        assertNotEquals(ClientKey.of((byte) 1, "10.0.0.1"), ClientKey.of((byte) 2, "10.0.0.1"));
+    }
+
+    @Test
+    void invalidAddressesShouldBeHashed() {
+        ClientKey garbage = ClientKey.of(SCOPE, "not-an-ip");
+
+        assertEquals(ClientKey.KIND_HASHED, garbage.kind());
+        assertEquals(garbage, ClientKey.of(SCOPE, "not-an-ip"));
+        assertNotEquals(garbage, ClientKey.of(SCOPE, "not-an-ip2"));
+        assertEquals(ClientKey.KIND_HASHED, ClientKey.of(SCOPE, "256.1.1.1").kind());
+        assertEquals(ClientKey.KIND_HASHED, ClientKey.of(SCOPE, "1.2.3").kind());
+        assertEquals(ClientKey.KIND_HASHED, ClientKey.of(SCOPE, null).kind());
+    }
+
+    @Test
+    void storageKeyShouldBeShortAndDistinguishScopes() {
+        assertEquals("1.0.0.ffffc0a8010a", ClientKey.of(SCOPE, "192.168.1.10").toStorageKey());
+        assertNotEquals(ClientKey.of((byte) 1, "10.0.0.1").toStorageKey(),
+                ClientKey.of((byte) 2, "10.0.0.1").toStorageKey());
+        assertTrue(ClientKey.of(SCOPE, "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff").toStorageKey().length() <= 64);
+    }
+
+    @Test
+    void malformedIpv6ShouldBeRejectedByParser() {
+        assertNull(ClientKey.parseIpv6("1::2::3"));
+        assertNull(ClientKey.parseIpv6("1:2:3:4:5:6:7:8:9"));
+        assertNull(ClientKey.parseIpv6("12345::1"));
+        assertNull(ClientKey.parseIpv6("1:2:"));
+        assertNull(ClientKey.parseIpv6("host:8080"));
+    }
+}
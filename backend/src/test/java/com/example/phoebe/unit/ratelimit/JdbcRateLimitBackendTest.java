@@ -0,0 +1,27 @@
+package com.example.phoebe.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcRateLimitBackendTest {
+
+    @Test
+    void batchingShouldOnlyApplyToLimitsMuchLargerThanUnsyncedTokens() {
+        assertTrue(JdbcRateLimitBackend.allowsBatching(limit(100), 5));
+        assertTrue(JdbcRateLimitBackend.allowsBatching(limit(50), 5));
+        assertFalse(JdbcRateLimitBackend.allowsBatching(limit(5), 5));
+        assertFalse(JdbcRateLimitBackend.allowsBatching(limit(100), 0));
+    }
+
+    private static BucketConfiguration limit(long capacity) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder().capacity(capacity).refillIntervally(capacity, Duration.ofMinutes(1)).build())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.phoebe.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the in-memory news search index: tokenization, ranking, prefix matching,
+ * filters and incremental updates.
+ */
+class NewsSearchIndexTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2024, 1, 10, 12, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2024, 2, 10, 12, 0);
+
+    private NewsSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NewsSearchIndex();
+        index.index(new IndexedNews(1L, "Election results announced", "Who won", "<p>Votes were counted.</p>", JAN, Set.of(10L)));
+        index.index(new IndexedNews(2L, "Weather today", "Sunny", "The election campaign paused for the storm.", FEB, Set.of(20L)));
+        index.index(new IndexedNews(3L, "Football cup", "Final", "Electricity failed at the stadium.", FEB, Set.of(10L, 20L)));
+    }
+
+    @Test
+    void titleMatchShouldRankAboveBodyMatch() {
+        SearchResult result = index.search("election ", null, null, null, 0, 10);
+
+        assertEquals(List.of(1L, 2L), ids(result));
+        assertEquals(2, result.totalHits());
+    }
+
+    @Test
+    void lastTokenShouldBeMatchedAsPrefix() {
+        SearchResult result = index.search("elect", null, null, null, 0, 10);
+
+        assertEquals(3, result.totalHits());
+        assertTrue(index.search("elect ", null, null, null, 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    void allTokensShouldMatch() {
+        assertEquals(List.of(2L), ids(index.search("election storm", null, null, null, 0, 10)));
+    }
+
+    @Test
+    void filtersShouldRestrictByTermAndDate() {
+        assertEquals(List.of(1L), ids(index.search("election", 10L, null, null, 0, 10)));
+        assertEquals(List.of(2L), ids(index.search("election", null, FEB.minusDays(1), null, 0, 10)));
+        assertEquals(List.of(1L), ids(index.search("election", null, null, FEB.minusDays(1), 0, 10)));
+    }
+
+    @Test
+    void htmlShouldBeStrippedAndCaseIgnored() {
+        assertEquals(List.of(1L), ids(index.search("VOTES", null, null, null, 0, 10)));
+        assertTrue(index.search("p", null, null, null, 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    void reindexAndRemoveShouldUpdatePostings() {
+        index.index(new IndexedNews(2L, "Weather tomorrow", "Rain", "Nothing else.", FEB, Set.of()));
+        index.remove(1L);
+
+        assertTrue(index.search("election", null, null, null, 0, 10).hits().isEmpty());
+        assertEquals(List.of(2L), ids(index.search("tomorrow", null, null, null, 0, 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void pagingShouldSliceRankedHits() {
+        SearchResult result = index.search("elect", null, null, null, 1, 1);
+
+        assertEquals(1, result.hits().size());
+        assertEquals(3, result.totalHits());
+    }
+
+    @Test
+    void tokenizerShouldHandleNonLatinText() {
+        assertEquals(List.of("новости", "дня"), SearchTokenizer.tokenize("Новости&nbsp;дня!"));
+    }
+
+    private static List<Long> ids(SearchResult result) {
+        return result.hits().stream().map(SearchHit::id).toList();
+    }
+}
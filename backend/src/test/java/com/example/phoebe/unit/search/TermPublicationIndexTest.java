@@ -0,0 +1,117 @@
+package com.example.phoebe.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the per-term publication index: ordering, paging, unions and incremental updates.
+ */
+class TermPublicationIndexTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2024, 1, 10, 12, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2024, 2, 10, 12, 0);
+    private static final LocalDateTime MAR = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private TermPublicationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TermPublicationIndex();
+        index.put(1L, JAN, new long[] {10L});
+        index.put(2L, MAR, new long[] {10L, 20L});
+        index.put(3L, FEB, new long[] {10L});
+        index.put(4L, FEB, new long[] {20L});
+    }
+
+    @Test
+    void pageShouldListNewestFirstWithIdAsTieBreaker() {
+        assertEquals(List.of(2L, 3L, 1L), index.page(10L, 0, 10));
+        assertEquals(List.of(3L), index.page(10L, 1, 1));
+        assertEquals(3, index.count(10L));
+        assertEquals(List.of(), index.page(10L, 5, 10));
+        assertEquals(0, index.count(99L));
+    }
+
+    @Test
+    void unionShouldMergeTermsWithoutDuplicates() {
+        assertEquals(List.of(2L, 4L, 3L, 1L), index.pageAny(List.of(10L, 20L), 0, 10));
+        assertEquals(4, index.countAny(List.of(10L, 20L, 20L)));
+    }
+
+    @Test
+    void putShouldMoveArticleWhenDateOrTermsChange() {
+        index.put(1L, MAR.plusDays(1), new long[] {20L});
+
+        assertEquals(List.of(2L, 3L), index.page(10L, 0, 10));
+        assertEquals(List.of(1L, 2L, 4L), index.page(20L, 0, 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void removeShouldDropArticleFromAllTerms() {
+        index.remove(2L);
+        index.remove(42L);
+
+        assertEquals(List.of(3L, 1L), index.page(10L, 0, 10));
+        assertEquals(List.of(4L), index.page(20L, 0, 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void builderShouldProduceTheSameIndexAsIncrementalPuts() {
+        TermPublicationIndex built = TermPublicationIndex.builder()
+                .add(1L, JAN, new long[] {10L})
+                .add(2L, MAR, new long[] {10L, 20L, 20L})
+                .add(3L, FEB, new long[] {10L})
+                .add(4L, FEB, new long[] {20L})
+                .build();
+
+        assertEquals(index.page(10L, 0, 10), built.page(10L, 0, 10));
+        assertEquals(index.pageAny(List.of(10L, 20L), 0, 10), built.pageAny(List.of(10L, 20L), 0, 10));
+        assertEquals(4, built.size());
+
+        built.put(1L, MAR.plusDays(1), new long[] {20L});
+        assertEquals(List.of(2L, 3L), built.page(10L, 0, 10));
+        assertEquals(List.of(1L, 2L, 4L), built.page(20L, 0, 10));
+    }
+
+    @Test
+    void builderShouldRejectAnArticleAddedTwice() {
+        TermPublicationIndex.Builder builder = TermPublicationIndex.builder().add(1L, JAN, new long[] {10L});
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1L, FEB, new long[] {20L}));
+    }
+
+    @Test
+    void builderShouldSortATermWithManyArticles() {
+        int articles = 200_000;
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime[] dates = new LocalDateTime[articles + 1];
+        TermPublicationIndex.Builder builder = TermPublicationIndex.builder();
+        for (int id = 1; id <= articles; id++) {
+            // Few distinct dates, so the ID tie-breaker is exercised as well
+            dates[id] = JAN.plusDays(random.nextInt(365));
+            builder.add(id, dates[id], new long[] {10L, id % 2 == 0 ? 20L : 30L});
+        }
+        TermPublicationIndex built = builder.build();
+
+        assertEquals(articles, built.count(10L));
+        assertEquals(articles / 2, built.count(20L));
+        List<Long> ids = built.page(10L, 0, articles);
+        assertEquals(articles, ids.stream().distinct().count());
+        for (int i = 1; i < ids.size(); i++) {
+            int previous = ids.get(i - 1).intValue();
+            int current = ids.get(i).intValue();
+            int byDate = dates[previous].compareTo(dates[current]);
+            assertTrue(byDate > 0 || byDate == 0 && previous > current, "out of order at " + i);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.phoebe.unit.security;
+
+import com.example.phoebe.event.UserAccountChangedEvent;
+import com.example.phoebe.security.AuthenticationCache;
+import com.example.phoebe.security.CachingAuthenticationProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingAuthenticationProviderTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private AuthenticationCache cache;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    @SuppressWarnings("deprecation")
+    void setUp() {
+        UserDetailsService userDetailsService = username -> {
+            lookups.incrementAndGet();
+            return User.withUsername(username).password("secret").roles("ADMIN").build();
+        };
+        DaoAuthenticationProvider daoProvider = new DaoAuthenticationProvider();
+        daoProvider.setUserDetailsService(userDetailsService);
+        daoProvider.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
+
+        cache = new AuthenticationCache(Duration.ofMinutes(1), 100);
+        provider = new CachingAuthenticationProvider(daoProvider, cache);
+    }
+
+    @Test
+    void repeatedAuthenticationShouldBeServedFromCache() {
+        Authentication first = provider.authenticate(token("admin", "secret"));
+        Authentication second = provider.authenticate(token("admin", "secret"));
+
+        assertEquals(1, lookups.get());
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertEquals("", ((UserDetails) second.getPrincipal()).getPassword());
+    }
+
+    @Test
+    void wrongPasswordShouldNotHitCacheOrBeCached() {
+        provider.authenticate(token("admin", "secret"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+        assertEquals(3, lookups.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void accountChangeShouldEvictCachedCredentials() {
+        provider.authenticate(token("admin", "secret"));
+
+        cache.onUserAccountChanged(new UserAccountChangedEvent("admin"));
+        provider.authenticate(token("admin", "secret"));
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void roleChangeShouldEvictAllCachedCredentials() {
+        provider.authenticate(token("admin", "secret"));
+        provider.authenticate(token("editor", "secret"));
+
+        cache.onUserAccountChanged(UserAccountChangedEvent.allAccounts());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void cacheMetricsShouldUseTheTagKeysOfCacheManagerCaches() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        provider.authenticate(token("admin", "secret"));
+        provider.authenticate(token("admin", "secret"));
+
+        FunctionCounter hits = registry.get("cache.gets")
+                .tags("cache", "authentication", "cache.manager", "authentication", "name", "authentication")
+                .tag("result", "hit")
+                .functionCounter();
+        assertEquals(1.0, hits.count());
+    }
+
+    private static UsernamePasswordAuthenticationToken token(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
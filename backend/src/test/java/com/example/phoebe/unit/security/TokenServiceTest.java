@@ -0,0 +1,70 @@
+package com.example.phoebe.security;
+
+import com.example.phoebe.config.SecurityProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void issuedTokenShouldVerifyWithIdAndRoles() {
+        TokenService service = service(SECRET, NOW);
+
+        String token = service.issue(7L, "editor", List.of("EDITOR"));
+        Optional<TokenPrincipal> principal = service.verify(token);
+
+        assertTrue(principal.isPresent());
+        assertEquals(7L, principal.get().userId());
+        assertEquals("editor", principal.get().getName());
+        assertEquals(List.of("EDITOR"), principal.get().roles());
+    }
+
+    @Test
+    void expiredTokenShouldBeRejected() {
+        String token = service(SECRET, NOW).issue(7L, "editor", List.of("EDITOR"));
+
+        TokenService later = service(SECRET, NOW.plusSeconds(15 * 60));
+
+        assertTrue(later.verify(token).isEmpty());
+    }
+
+    @Test
+    void tamperedTokenShouldBeRejected() {
+        TokenService service = service(SECRET, NOW);
+        String token = service.issue(7L, "editor", List.of("EDITOR"));
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"editor\",\"uid\":7,\"exp\":9999999999,\"roles\":[\"ADMIN\"]}".getBytes());
+
+        assertTrue(service.verify(parts[0] + "." + forgedPayload + "." + parts[2]).isEmpty());
+        assertTrue(service(SECRET.replace('0', 'x'), NOW).verify(token).isEmpty());
+        assertTrue(service.verify("garbage").isEmpty());
+        assertTrue(service.verify(token + "x").isEmpty());
+    }
+
+    @Test
+    void shortSecretShouldFailFast() {
+        assertThrows(IllegalStateException.class, () -> service("too-short", NOW));
+    }
+
+    private TokenService service(String secret, Instant now) {
+        return new TokenService(new SecurityProperties(secret, 15 * 60 * 1000L, false, null), objectMapper,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
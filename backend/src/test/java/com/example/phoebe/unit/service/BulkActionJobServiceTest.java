@@ -0,0 +1,160 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.dto.response.BulkActionJobDto;
+import com.example.phoebe.event.ContentChangeEvent;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for chunked background bulk actions. Jobs are run synchronously via run(job).
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkActionJobServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private TermRepository termRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkActionJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkActionJobService(newsRepository, termRepository, eventPublisher, transactionManager, CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldProcessAllMatchesInChunksWithOneTransactionEach() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.UNPUBLISH, BulkActionRequestDto.FilterType.ALL);
+        when(newsRepository.count()).thenReturn(5L);
+        when(newsRepository.findIdsAfterId(0L, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(1L, 2L));
+        when(newsRepository.findIdsAfterId(2L, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(3L, 4L));
+        when(newsRepository.findIdsAfterId(4L, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(5L));
+        BulkActionJobService.Job job = new BulkActionJobService.Job("job-1", request, "admin");
+
+        service.run(job);
+
+        BulkActionJobDto result = job.toDto();
+        assertEquals(BulkActionJobDto.Status.COMPLETED, result.status());
+        assertEquals(5L, result.totalCount());
+        assertEquals(5, result.processedCount());
+        assertEquals(3, result.chunkCount());
+        verify(newsRepository).unpublishByIds(List.of(1L, 2L));
+        verify(newsRepository).unpublishByIds(List.of(3L, 4L));
+        verify(newsRepository).unpublishByIds(List.of(5L));
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher).publishEvent(ContentChangeEvent.news("bulk job UNPUBLISH", List.of(3L, 4L)));
+    }
+
+    @Test
+    void shouldWalkGivenIdsInAscendingChunks() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.PUBLISH, BulkActionRequestDto.FilterType.BY_IDS);
+        request.setItemIds(Set.of(9L, 3L, 7L));
+        BulkActionJobService.Job job = new BulkActionJobService.Job("job-2", request, "admin");
+
+        service.run(job);
+
+        verify(newsRepository).publishByIds(List.of(3L, 7L));
+        verify(newsRepository).publishByIds(List.of(9L));
+        assertEquals(BulkActionJobDto.Status.COMPLETED, job.toDto().status());
+    }
+
+    @Test
+    void cancelledJobShouldStopAfterCurrentChunk() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.DELETE, BulkActionRequestDto.FilterType.BY_AUTHOR);
+        request.setAuthorId(4L);
+        BulkActionJobService.Job job = new BulkActionJobService.Job("job-3", request, "admin");
+        when(newsRepository.findIdsByAuthorIdAfterId(4L, 0L, PageRequest.of(0, CHUNK_SIZE))).thenAnswer(invocation -> {
+            job.requestCancel();
+            return List.of(1L, 2L);
+        });
+
+        service.run(job);
+
+        BulkActionJobDto result = job.toDto();
+        assertEquals(BulkActionJobDto.Status.CANCELLED, result.status());
+        assertEquals(2, result.processedCount());
+        verify(newsRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(newsRepository, never()).findIdsByAuthorIdAfterId(4L, 2L, PageRequest.of(0, CHUNK_SIZE));
+    }
+
+    @Test
+    void failingChunkShouldMarkJobFailed() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.UNPUBLISH, BulkActionRequestDto.FilterType.ALL);
+        when(newsRepository.findIdsAfterId(0L, PageRequest.of(0, CHUNK_SIZE))).thenReturn(List.of(1L, 2L));
+        when(newsRepository.unpublishByIds(anyList())).thenThrow(new IllegalStateException("lock wait timeout"));
+        BulkActionJobService.Job job = new BulkActionJobService.Job("job-4", request, "admin");
+
+        service.run(job);
+
+        BulkActionJobDto result = job.toDto();
+        assertEquals(BulkActionJobDto.Status.FAILED, result.status());
+        assertEquals("lock wait timeout", result.error());
+        assertEquals(0, result.processedCount());
+    }
+
+    @Test
+    void submitShouldRequireConfirmation() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.DELETE, BulkActionRequestDto.FilterType.ALL);
+        request.setConfirmed(false);
+
+        assertThrows(IllegalArgumentException.class, () -> service.submit(request, "admin"));
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void submitShouldRejectUnknownTargetTerm() {
+        BulkActionRequestDto request = request(BulkActionRequestDto.ActionType.ASSIGN_TERM, BulkActionRequestDto.FilterType.ALL);
+        request.setTargetTermId(99L);
+        when(termRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.submit(request, "admin"));
+    }
+
+    private static BulkActionRequestDto request(BulkActionRequestDto.ActionType action,
+                                                BulkActionRequestDto.FilterType filterType) {
+        BulkActionRequestDto request = new BulkActionRequestDto();
+        request.setAction(action);
+        request.setFilterType(filterType);
+        request.setConfirmed(true);
+        return request;
+    }
+}
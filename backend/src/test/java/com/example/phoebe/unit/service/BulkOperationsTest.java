@@ -1,6 +1,7 @@
 package com.example.phoebe.service;
 
 import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.event.ContentChangeEvent;
 import com.example.phoebe.mapper.NewsMapper;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.UserRepository;
@@ -12,6 +13,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -43,6 +45,9 @@ class BulkOperationsTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private NewsMapper newsMapper;
 
@@ -136,6 +141,7 @@ class BulkOperationsTest {
         List<Long> capturedIds = idListCaptor.getValue();
         assertEquals(3, capturedIds.size());
         assertTrue(capturedIds.containsAll(List.of(1L, 2L, 3L)));
+        verify(eventPublisher).publishEvent(ContentChangeEvent.news("bulk UNPUBLISH", capturedIds));
     }
 
     /**
@@ -12,13 +12,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +35,12 @@ class ChannelSettingsServiceTest {
     @Mock
     private ChannelSettingsMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ChannelSettingsServiceImpl service;
 
@@ -67,6 +77,31 @@ class ChannelSettingsServiceTest {
         verify(repository).findSingletonSettings();
     }
 
+    @Test
+    void getSettingsRepeatedCallsAreServedFromSnapshot() {
+        when(repository.findSingletonSettings()).thenReturn(Optional.of(settings));
+        when(mapper.toDto(settings)).thenReturn(settingsDto);
+
+        ChannelSettingsDto first = service.getSettings();
+        ChannelSettingsDto second = service.getSettings();
+        service.getSettingsValidator();
+
+        assertSame(first, second);
+        verify(repository, times(1)).findSingletonSettings();
+    }
+
+    @Test
+    void pollForChangesReloadsWhenVersionDiffers() {
+        when(repository.findSingletonSettings()).thenReturn(Optional.of(settings));
+        when(mapper.toDto(settings)).thenReturn(settingsDto);
+        service.getSettings();
+
+        when(repository.findSingletonVersion()).thenReturn(Optional.of(1L));
+        service.pollForChanges();
+
+        verify(repository, times(2)).findSingletonSettings();
+    }
+
     @Test
     void getSettingsNoSettingsCreatesDefault() {
         when(repository.findSingletonSettings()).thenReturn(Optional.empty());
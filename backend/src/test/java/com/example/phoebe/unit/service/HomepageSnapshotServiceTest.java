@@ -0,0 +1,92 @@
+package com.example.phoebe.unit.service;
+
+import com.example.phoebe.dto.response.PublicHomepageResponseDto;
+import com.example.phoebe.dto.response.PublicNewsDto;
+import com.example.phoebe.model.HomepageMode;
+import com.example.phoebe.service.HomepageSnapshotService;
+import com.example.phoebe.service.PublicHomepageService;
+import com.example.phoebe.value.HomepageSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HomepageSnapshotServiceTest {
+
+    @Mock
+    private PublicHomepageService publicHomepageService;
+
+    private HomepageSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new HomepageSnapshotService(
+                publicHomepageService, new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotService.shutdown();
+    }
+
+    @Test
+    void getSnapshotShouldRenderOnceAndServeFromMemory() {
+        when(publicHomepageService.getHomepageContent()).thenReturn(simpleHomepage("First"));
+
+        HomepageSnapshot first = snapshotService.getSnapshot();
+        HomepageSnapshot second = snapshotService.getSnapshot();
+
+        assertSame(first, second);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"title\":\"First\""));
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        verify(publicHomepageService, times(1)).getHomepageContent();
+    }
+
+    @Test
+    void rebuildWithUnchangedContentShouldKeepEtagAndVersion() {
+        when(publicHomepageService.getHomepageContent()).thenReturn(simpleHomepage("Same"));
+
+        HomepageSnapshot first = snapshotService.rebuild();
+        HomepageSnapshot second = snapshotService.rebuild();
+
+        assertEquals(first.etag(), second.etag());
+        assertEquals(first.version(), second.version());
+    }
+
+    @Test
+    void rebuildWithChangedContentShouldPublishNewVersion() {
+        when(publicHomepageService.getHomepageContent())
+                .thenReturn(simpleHomepage("Before"))
+                .thenReturn(simpleHomepage("After"));
+
+        HomepageSnapshot before = snapshotService.rebuild();
+        HomepageSnapshot after = snapshotService.rebuild();
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(before.version() + 1, after.version());
+        assertSame(after, snapshotService.getSnapshot());
+    }
+
+    private PublicHomepageResponseDto simpleHomepage(String title) {
+        PublicHomepageResponseDto dto = new PublicHomepageResponseDto();
+        dto.setMode(HomepageMode.SIMPLE);
+        dto.setNews(List.of(new PublicNewsDto(1L, title, null, "Teaser", null)));
+        return dto;
+    }
+}
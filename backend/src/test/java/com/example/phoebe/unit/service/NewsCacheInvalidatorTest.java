@@ -0,0 +1,64 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.event.ContentChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NewsCacheInvalidatorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NewsCacheInvalidator invalidator;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(NewsCacheInvalidator.NEWS_BY_ID);
+        invalidator = new NewsCacheInvalidator(cacheManager);
+        cache = cacheManager.getCache(NewsCacheInvalidator.NEWS_BY_ID);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.put(3L, "three");
+    }
+
+    @Test
+    void bulkChangeShouldEvictEveryListedArticle() {
+        invalidator.onContentChanged(ContentChangeEvent.news("bulk UNPUBLISH", List.of(1L, 2L)));
+
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+    }
+
+    @Test
+    void replayedAllNewsChangeShouldClearCache() {
+        invalidator.onContentChanged(new ContentChangeEvent("bulk DELETE", null, false));
+
+        assertNull(cache.get(3L));
+    }
+
+    @Test
+    void homepageOnlyChangeShouldKeepArticles() {
+        invalidator.onContentChanged(ContentChangeEvent.homepage("homepage block updated"));
+
+        assertNotNull(cache.get(1L));
+    }
+
+    @Test
+    void logEncodingShouldRoundTripIdsAndCollapseLargeChanges() {
+        ContentChangeEvent event = ContentChangeEvent.news("bulk UNPUBLISH", List.of(4L, 5L));
+
+        String encoded = ContentChangeReplicator.encodeIds(event);
+
+        assertEquals(List.of(4L, 5L), ContentChangeReplicator.decodeIds(encoded));
+        assertNull(ContentChangeReplicator.encodeIds(ContentChangeEvent.homepage("homepage mode updated")));
+        assertNull(ContentChangeReplicator.decodeIds(ContentChangeReplicator.ALL_NEWS));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.CursorPageDto;
+import com.example.phoebe.dto.response.NewsSummaryDto;
+import com.example.phoebe.mapper.NewsMapper;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.NewsSummaryRow;
+import com.example.phoebe.repository.NewsTermNameRow;
+import com.example.phoebe.service.impl.NewsServiceImpl;
+import com.example.phoebe.value.NewsCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for keyset (cursor) and ID-then-fetch pagination in NewsServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class NewsCursorPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NewsMapper newsMapper;
+
+    @InjectMocks
+    private NewsServiceImpl newsService;
+
+    @Test
+    void firstPageShouldKeepIdOrderAndPointCursorAtLastItem() {
+        when(newsRepository.findFirstPublishedIds(PageRequest.of(0, 3))).thenReturn(List.of(30L, 20L, 10L));
+        // Rows come back in arbitrary order from the IN query
+        when(newsRepository.findSummariesByIdIn(List.of(30L, 20L)))
+                .thenReturn(List.of(row(20L, BASE.minusHours(1)), row(30L, BASE)));
+
+        CursorPageDto<NewsSummaryDto> page = newsService.findAllPublished(null, 2);
+
+        assertEquals(List.of(30L, 20L), page.content().stream().map(NewsSummaryDto::id).toList());
+        assertTrue(page.hasNext());
+        assertEquals(new NewsCursor(BASE.minusHours(1), 20L), NewsCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void lastPageShouldHaveNoNextCursor() {
+        NewsCursor cursor = new NewsCursor(BASE, 30L);
+        when(newsRepository.findPublishedIdsAfter(BASE, 30L, PageRequest.of(0, 3))).thenReturn(List.of(20L));
+        when(newsRepository.findSummariesByIdIn(List.of(20L)))
+                .thenReturn(List.of(row(20L, BASE.minusHours(1))));
+
+        CursorPageDto<NewsSummaryDto> page = newsService.findAllPublished(cursor.encode(), 2);
+
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void pageSizeShouldBeCapped() {
+        when(newsRepository.findFirstPublishedIds(PageRequest.of(0, 101))).thenReturn(List.of());
+
+        CursorPageDto<NewsSummaryDto> page = newsService.findAllPublished("", 10_000);
+
+        assertTrue(page.content().isEmpty());
+        verify(newsRepository).findFirstPublishedIds(PageRequest.of(0, 101));
+    }
+
+    @Test
+    void offsetPageShouldFetchOnlyPageIdsAndKeepOrderAndTotals() {
+        PageRequest pageable = PageRequest.of(1, 2);
+        when(newsRepository.findIdPageByPublished(true, pageable)).thenReturn(new PageImpl<>(List.of(8L, 5L), pageable, 7));
+        when(newsRepository.findSummariesByIdIn(List.of(8L, 5L)))
+                .thenReturn(List.of(row(5L, BASE.minusHours(1)), row(8L, BASE)));
+        when(newsRepository.findTermNamesByNewsIdIn(List.of(8L, 5L)))
+                .thenReturn(List.of(new NewsTermNameRow(5L, "Politics"), new NewsTermNameRow(5L, "World")));
+
+        Page<NewsSummaryDto> page = newsService.findAllPublished(pageable);
+
+        assertEquals(List.of(8L, 5L), page.getContent().stream().map(NewsSummaryDto::id).toList());
+        assertEquals(Set.of(), page.getContent().get(0).termNames());
+        assertEquals(Set.of("Politics", "World"), page.getContent().get(1).termNames());
+        assertEquals(7, page.getTotalElements());
+        assertEquals(pageable, page.getPageable());
+        verify(newsRepository, never()).findAllWithAuthorAndTermsByIdIn(any());
+    }
+
+    @Test
+    void malformedCursorShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> newsService.findAllPublished("%%%", 10));
+    }
+
+    private static NewsSummaryRow row(Long id, LocalDateTime publicationDate) {
+        return new NewsSummaryRow(id, "Title " + id, null, publicationDate, true, 1L, "author");
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +41,9 @@ class RoleServiceTest {
     @Mock
     private RoleMapper roleMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RoleServiceImpl service;
 
@@ -60,7 +64,7 @@ class RoleServiceTest {
 
     @Test
     void getAllRolesReturnsListOfRoles() {
-        when(roleRepository.findAll()).thenReturn(List.of(role));
+        when(roleRepository.findAllWithPermissions()).thenReturn(List.of(role));
         when(roleMapper.toDto(role)).thenReturn(roleDto);
 
         List<RoleDto> result = service.getAllRoles();
@@ -0,0 +1,85 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.NewsTermLinkRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermPublicationIndexServiceTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2024, 1, 10, 12, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2024, 2, 10, 12, 0);
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    private TermPublicationIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TermPublicationIndexService(newsRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldFallBackUntilBuiltAndForOtherOrders() {
+        assertTrue(service.findPublishedIdPage(List.of(10L), PageRequest.of(0, 10)).isEmpty());
+
+        buildWith(List.of(new NewsTermLinkRow(1L, 10L, JAN), new NewsTermLinkRow(2L, 10L, FEB)));
+
+        assertTrue(service.findPublishedIdPage(List.of(10L),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "publicationDate"))).isEmpty());
+    }
+
+    @Test
+    void shouldServeNewestFirstPagesWithTotals() {
+        buildWith(List.of(new NewsTermLinkRow(1L, 10L, JAN), new NewsTermLinkRow(2L, 10L, FEB),
+                new NewsTermLinkRow(2L, 20L, FEB)));
+
+        Page<Long> page = service.findPublishedIdPage(List.of(10L), PageRequest.of(0, 1)).orElseThrow();
+
+        assertEquals(List.of(2L), page.getContent());
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, service.findPublishedIdPage(List.of(10L, 20L),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publicationDate"))).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void reindexShouldDropArticlesThatAreNoLongerPublished() {
+        buildWith(List.of(new NewsTermLinkRow(1L, 10L, JAN), new NewsTermLinkRow(2L, 10L, FEB)));
+        when(newsRepository.findPublishedTermLinksByNewsIdIn(List.of(2L))).thenReturn(List.of());
+
+        service.reindex(List.of(2L));
+
+        assertEquals(List.of(1L), service.findPublishedIdPage(List.of(10L), PageRequest.of(0, 10))
+                .orElseThrow().getContent());
+    }
+
+    private void buildWith(List<NewsTermLinkRow> links) {
+        List<Long> ids = links.stream().map(NewsTermLinkRow::newsId).distinct().toList();
+        when(newsRepository.findPublishedIdsAfterId(anyLong(), any())).thenReturn(ids);
+        when(newsRepository.findPublishedTermLinksByNewsIdIn(ids)).thenReturn(links);
+        service.rebuild();
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.phoebe.service;
 
 import com.example.phoebe.entity.Term;
+import com.example.phoebe.event.ContentChangeEvent;
 import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.TermRepository;
 import com.example.phoebe.service.impl.TermServiceImpl;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -21,7 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,12 @@ class TermServiceTest {
     @Mock
     private TermRepository termRepository;
 
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TermServiceImpl termService;
 
@@ -96,4 +108,51 @@ class TermServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals("Politics", result.getContent().get(0).getName());
     }
+
+    @Test
+    void shouldPublishAffectedNewsWhenDeletingTerm() {
+        // Given
+        Long termId = 5L;
+        when(termRepository.existsById(termId)).thenReturn(true);
+        when(newsRepository.findIdsByTermId(termId)).thenReturn(List.of(10L, 11L));
+
+        // When
+        termService.deleteById(termId);
+
+        // Then
+        verify(termRepository).deleteById(termId);
+        verify(newsRepository).touchByIds(eq(List.of(10L, 11L)), any());
+        verify(eventPublisher).publishEvent(ContentChangeEvent.news("term deleted", List.of(10L, 11L)));
+    }
+
+    @Test
+    void shouldBumpAffectedNewsVersionsWhenRenamingTerm() {
+        // Given
+        Term renamed = new Term("Tech", "category");
+        renamed.setId(3L);
+        when(termRepository.findById(3L)).thenReturn(Optional.of(new Term(3L, "Technology", "category")));
+        when(termRepository.save(renamed)).thenReturn(renamed);
+        when(newsRepository.findIdsByTermId(3L)).thenReturn(List.of(20L, 21L));
+
+        // When
+        termService.save(renamed);
+
+        // Then
+        verify(newsRepository).touchByIds(eq(List.of(20L, 21L)), any());
+        verify(eventPublisher).publishEvent(ContentChangeEvent.news("term updated", List.of(20L, 21L)));
+    }
+
+    @Test
+    void shouldNotTouchNewsWhenTermNameIsUnchanged() {
+        // Given
+        Term unchanged = new Term(3L, "Technology", "tag");
+        when(termRepository.findById(3L)).thenReturn(Optional.of(new Term(3L, "Technology", "category")));
+        when(termRepository.save(unchanged)).thenReturn(unchanged);
+
+        // When
+        termService.save(unchanged);
+
+        // Then
+        verifyNoInteractions(newsRepository, eventPublisher);
+    }
 }
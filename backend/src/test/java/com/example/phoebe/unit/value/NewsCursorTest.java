@@ -0,0 +1,41 @@
+package com.example.phoebe.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for NewsCursor value object.
+ * Verifies that the opaque token round-trips and that malformed tokens are rejected.
+ */
+class NewsCursorTest {
+
+    @Test
+    void encodeAndDecodeShouldRoundTrip() {
+        NewsCursor cursor = new NewsCursor(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000), 42L);
+
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encodedTokenShouldBeUrlSafe() {
+        String token = new NewsCursor(LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertFalse(token.contains("+"));
+        assertFalse(token.contains("/"));
+        assertFalse(token.contains("="));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode("bm90LWEtZGF0ZXw0Mg"));
+        assertThrows(IllegalArgumentException.class, () -> NewsCursor.decode("MjAyNC0wMS0wMVQwMDowMA"));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.phoebe.tools;
+
+import com.example.phoebe.accesslog.AccessLogEntry;
+import com.example.phoebe.accesslog.AccessLogReader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * Re-drives a recorded access log (see {@code app.access-log}) against a running instance, keeping the
+ * recorded arrival times scaled by {@code --speed}, and prints latency percentiles per endpoint.
+ *
+ * <pre>
+ * ./gradlew replayAccessLog -Preplay.args="--log ./access-log --target http://localhost:8080 --speed 4 \
+ *     --admin perf_admin:perf-admin --editor gen_user_1:gen_user_password"
+ * </pre>
+ *
+ * Notes:
+ * - Each request runs on its own virtual thread; {@code --max-in-flight} caps open requests so a stalled
+ *   server shows up as latency rather than as thousands of sockets. {@code --speed 0} sends as fast as possible.
+ * - Only GET and HEAD are replayed: bodies are not recorded, and replaying writes would change the data.
+ * - Admin and editor requests are sent with the given HTTP Basic credentials; without them they are
+ *   sent anonymously and will mostly come back 401.
+ * - Endpoints are grouped by path with numeric segments replaced by {id}.
+ */
+public final class AccessLogReplay {
+
+    private static final Set<String> REPLAYED_METHODS = Set.of("GET", "HEAD");
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+    private final LatencyHistogram lag = new LatencyHistogram();
+
+    private AccessLogReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        if (!options.containsKey("log")) {
+            System.err.println("Usage: AccessLogReplay --log <file or directory> [--target http://localhost:8080] "
+                    + "[--speed 1] [--max-in-flight 512] [--limit N] [--admin user:password] [--editor user:password]");
+            System.exit(2);
+        }
+        new AccessLogReplay().run(options);
+    }
+
+    private void run(Map<String, String> options) throws IOException, InterruptedException {
+        String target = options.getOrDefault("target", "http://localhost:8080").replaceAll("/$", "");
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        long limit = Long.parseLong(options.getOrDefault("limit", String.valueOf(Long.MAX_VALUE)));
+        Semaphore inFlight = new Semaphore(Integer.parseInt(options.getOrDefault("max-in-flight", "512")));
+        Map<AccessLogEntry.Role, String> authorization = new HashMap<>();
+        putBasic(authorization, AccessLogEntry.Role.ADMIN, options.get("admin"));
+        putBasic(authorization, AccessLogEntry.Role.EDITOR, options.get("editor"));
+        putBasic(authorization, AccessLogEntry.Role.AUTHENTICATED, options.getOrDefault("editor", options.get("admin")));
+
+        long started = System.nanoTime();
+        long sent = 0;
+        // Closed in reverse order: the executor waits for all sends before the client shuts down
+        try (HttpClient client = HttpClient.newBuilder()
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             AccessLogReader reader = new AccessLogReader(Path.of(options.get("log")))) {
+            long firstMillis = -1;
+            while (reader.hasNext() && sent < limit) {
+                AccessLogEntry entry = reader.next();
+                if (!REPLAYED_METHODS.contains(entry.method())) {
+                    skipped.incrementAndGet();
+                    continue;
+                }
+                if (firstMillis < 0) {
+                    firstMillis = entry.timestampMillis();
+                }
+                long dueNanos = started + (speed > 0
+                        ? (long) (TimeUnit.MILLISECONDS.toNanos(entry.timestampMillis() - firstMillis) / speed) : 0);
+                long wait = dueNanos - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                lag.record(Math.max(0, System.nanoTime() - dueNanos) / 1_000);
+                HttpRequest request = toRequest(target, entry, authorization.get(entry.role()));
+                executor.submit(() -> {
+                    try {
+                        send(client, request, entry);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                sent++;
+            }
+        }
+        report(sent, System.nanoTime() - started);
+    }
+
+    private void send(HttpClient client, HttpRequest request, AccessLogEntry entry) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpointOf(entry), key -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.latency.record((System.nanoTime() - start) / 1_000);
+            if (response.statusCode() >= 500) {
+                stats.serverErrors.incrementAndGet();
+            }
+            if (response.statusCode() != entry.status()) {
+                stats.statusChanged.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            stats.serverErrors.incrementAndGet();
+            firstFailure.compareAndSet(null, request.uri() + ": " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HttpRequest toRequest(String target, AccessLogEntry entry, String authorization) {
+        String uri = target + entry.path() + (entry.query() != null ? "?" + entry.query() : "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(Duration.ofSeconds(30))
+                .method(entry.method(), HttpRequest.BodyPublishers.noBody());
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    static String endpointOf(AccessLogEntry entry) {
+        return entry.method() + " " + NUMERIC_SEGMENT.matcher(entry.path()).replaceAll("/{id}");
+    }
+
+    private void report(long sent, long elapsedNanos) {
+        double seconds = Math.max(0.001, elapsedNanos / 1e9);
+        System.out.printf("%nReplayed %d requests in %.1f s (%.0f req/s), skipped %d non-GET, %d connection failures%n",
+                sent, seconds, sent / seconds, skipped.get(), failed.get());
+        if (firstFailure.get() != null) {
+            System.out.printf("First connection failure: %s%n", firstFailure.get());
+        }
+        System.out.printf("Schedule lag p99 %.1f ms, max %.1f ms (high values: the replay could not keep up)%n%n",
+                lag.percentile(99) / 1000.0, lag.max() / 1000.0);
+        System.out.printf("%-60s %8s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "5xx", "changed", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, EndpointStats> e) -> e.getValue().latency.count()).reversed())
+                .forEach(e -> {
+                    EndpointStats stats = e.getValue();
+                    System.out.printf("%-60s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                            e.getKey(), stats.latency.count(), stats.serverErrors.get(), stats.statusChanged.get(),
+                            stats.latency.percentile(50) / 1000.0, stats.latency.percentile(90) / 1000.0,
+                            stats.latency.percentile(99) / 1000.0, stats.latency.max() / 1000.0);
+                });
+    }
+
+    private static void putBasic(Map<AccessLogEntry.Role, String> authorization, AccessLogEntry.Role role,
+                                 String credentials) {
+        if (credentials != null && credentials.contains(":")) {
+            authorization.put(role, "Basic " + Base64.getEncoder()
+                    .encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option but got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong statusChanged = new AtomicLong();
+    }
+}
@@ -75,8 +75,11 @@ export async function getStaticProps({ params }) {
       return { notFound: true };
     }
 
+    // Term listings carry summaries only; the body comes with the full article
+    const articleResponse = await axios.get(`${API_BASE_URL}/public/news/${pages[0].id}`);
+
     return {
-      props: { page: pages[0] },
+      props: { page: articleResponse.data },
       revalidate: 3600
     };
   } catch (error) {
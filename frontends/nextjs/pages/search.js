@@ -19,7 +19,7 @@ const SearchPage = () => {
     setLoading(true);
     try {
       const response = await searchPublicNews(searchQuery);
-      setResults(response.data);
+      setResults(response.data.content);
     } catch (error) {
       console.error('Search failed:', error);
       setResults([]);
@@ -21,8 +21,8 @@ export const getNewsByTerm = (termId, page = 0, size = 10) => {
   return api.get(`/public/news/term/${termId}?page=${page}&size=${size}`);
 };
 
-export const searchPublicNews = (query) => {
-  return api.get(`/public/news/search?q=${encodeURIComponent(query)}`);
+export const searchPublicNews = (query, page = 0, size = 10) => {
+  return api.get(`/public/search?q=${encodeURIComponent(query)}&page=${page}&size=${size}`);
 };
 
 